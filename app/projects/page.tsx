@@ -4,7 +4,7 @@ import { motion, AnimatePresence } from "framer-motion";
 import { ExternalLink, Github, Activity, BookOpen, Dumbbell, Database, Cloud, Workflow, BarChart, Server, GitBranch, Code, X, ArrowLeft, Globe, Fish, Gamepad2, Brain, TrendingUp, Receipt, Sparkles } from "lucide-react";
 import { useEffect, useState } from "react";
 import { projectApi, Project } from "@/lib/api";
-import { repositoryApi, CodeRepository } from "@/lib/repositoryApi";
+import { repositoryApi, CodeRepositorySummary } from "@/lib/repositoryApi";
 import CodeViewer from "@/components/CodeViewer";
 import Link from "next/link";
 
@@ -31,7 +31,7 @@ export default function ProjectsPage() {
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
   const [selectedProject, setSelectedProject] = useState<Project | null>(null);
-  const [codeRepositories, setCodeRepositories] = useState<CodeRepository[]>([]);
+  const [codeRepositories, setCodeRepositories] = useState<CodeRepositorySummary[]>([]);
   const [loadingCode, setLoadingCode] = useState(false);
 
   useEffect(() => {
@@ -298,6 +298,7 @@ export default function ProjectsPage() {
                           )}
                         </div>
                         <CodeViewer 
+                          repositoryId={repo.id}
                           repositoryName={repo.name}
                           files={repo.files} 
                         />
@@ -0,0 +1,126 @@
+package com.portfolio.benchmark;
+
+import com.portfolio.PortfolioApplication;
+import com.portfolio.domain.dto.BatchResult;
+import com.portfolio.domain.model.CodeRepository;
+import com.portfolio.domain.model.Project;
+import com.portfolio.domain.model.Skill;
+import com.portfolio.service.CodeRepositoryService;
+import com.portfolio.service.ProjectService;
+import com.portfolio.service.SkillService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Deterministic synthetic catalogue used by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private static final String[] TAGS = {"Java", "Python", "Spring Boot", "React", "Docker", "ETL", "AI", "SQL"};
+
+    /** Stays under {@code portfolio.batch.max-items}. */
+    private static final int SEED_BATCH = 1000;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Starts the application with the given {@code key=value} properties passed
+     * as command-line arguments, so they override application.properties.
+     * Default properties set on the builder would be overridden by it instead.
+     */
+    static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(PortfolioApplication.class)
+                .run(Arrays.stream(properties).map(property -> "--" + property).toArray(String[]::new));
+    }
+
+    /**
+     * Seeds {@code size} projects and skills and {@code size / 100} repositories
+     * through the batch services, the way the API writes them, so the change
+     * events after each chunk fill the tag and search indexes.
+     */
+    static void seed(ApplicationContext context, int size) {
+        ProjectService projectService = context.getBean(ProjectService.class);
+        SkillService skillService = context.getBean(SkillService.class);
+        inBatches(projects(size), projectService::createProjects);
+        inBatches(skills(size), skillService::createSkills);
+        CodeRepositoryService codeRepositoryService = context.getBean(CodeRepositoryService.class);
+        inBatches(repositories(Math.max(1, size / 100), 20), codeRepositoryService::createRepositories);
+    }
+
+    private static <T> void inBatches(List<T> items, Function<List<T>, BatchResult> write) {
+        for (int from = 0; from < items.size(); from += SEED_BATCH) {
+            BatchResult result = write.apply(items.subList(from, Math.min(items.size(), from + SEED_BATCH)));
+            if (result.hasInvalidItems() || result.getFailed() > 0) {
+                throw new IllegalStateException("Seeding failed: " + result.getItems());
+            }
+        }
+    }
+
+    static List<Project> projects(int count) {
+        List<Project> projects = new ArrayList<>(count);
+        Project.ProjectCategory[] categories = Project.ProjectCategory.values();
+        for (int i = 0; i < count; i++) {
+            Project project = new Project();
+            project.setTitle("Project " + i);
+            project.setDescription("Synthetic benchmark project number " + i + " with a description of realistic length.");
+            project.setCategory(categories[i % categories.length]);
+            project.setTags(new ArrayList<>(List.of(TAGS[i % TAGS.length], TAGS[(i + 3) % TAGS.length], "tag-" + (i % 50))));
+            project.setIconName("Code");
+            project.setIsFeatured(i % 4 == 0);
+            project.setDisplayOrder(i);
+            projects.add(project);
+        }
+        return projects;
+    }
+
+    static List<Skill> skills(int count) {
+        List<Skill> skills = new ArrayList<>(count);
+        Skill.SkillCategory[] categories = Skill.SkillCategory.values();
+        for (int i = 0; i < count; i++) {
+            Skill skill = new Skill();
+            skill.setName("Skill " + i);
+            skill.setCategory(categories[i % categories.length]);
+            skill.setLevel(i % 101);
+            skill.setDisplayOrder(i);
+            skills.add(skill);
+        }
+        return skills;
+    }
+
+    static List<CodeRepository> repositories(int count, int filesPerRepository) {
+        List<CodeRepository> repositories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            CodeRepository repository = new CodeRepository();
+            repository.setName("Repository " + i);
+            repository.setDescription("Synthetic benchmark repository " + i);
+            repository.setDisplayOrder(i);
+            for (int f = 0; f < filesPerRepository; f++) {
+                CodeRepository.CodeFile file = new CodeRepository.CodeFile();
+                file.setFileName("File" + f + ".java");
+                file.setFilePath("src/main/java/bench/r" + i + "/File" + f + ".java");
+                file.setLanguage("java");
+                file.setContent(sourceFile(i, f));
+                file.setLines(40);
+                repository.addFile(file);
+            }
+            repositories.add(repository);
+        }
+        return repositories;
+    }
+
+    private static String sourceFile(int repository, int file) {
+        StringBuilder source = new StringBuilder("package bench.r").append(repository).append(";\n\n");
+        source.append("public class File").append(file).append(" {\n");
+        for (int line = 0; line < 36; line++) {
+            source.append("    private int value").append(line).append(" = ").append(line * 31).append(";\n");
+        }
+        return source.append("}\n").toString();
+    }
+}
@@ -0,0 +1,130 @@
+package com.portfolio.benchmark;
+
+import com.portfolio.domain.dto.CodeRepositorySummary;
+import com.portfolio.domain.model.Project;
+import com.portfolio.repository.CodeRepositoryRepository;
+import com.portfolio.repository.ProjectRepository;
+import com.portfolio.service.CodeRepositoryService;
+import com.portfolio.service.ProjectService;
+import com.portfolio.service.SnapshotService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Finders, services and the MVC path against an H2 database seeded with
+ * {@code size} projects and skills, written through the batch services so
+ * the tag and search indexes are built. The Spring cache is disabled so every
+ * service call reaches the database. {@code getProjectsEndpoint} is served
+ * from the rendered snapshot, as in production; {@code
+ * getProjectsEndpointRendered} has the snapshots dropped before each
+ * invocation, outside the measurement, so it measures the service call and
+ * serialization behind the controller.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogueBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private ConfigurableApplicationContext context;
+    private ProjectRepository projectRepository;
+    private CodeRepositoryRepository codeRepositoryRepository;
+    private ProjectService projectService;
+    private CodeRepositoryService codeRepositoryService;
+    private MockMvc mockMvc;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkData.start(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:benchmark-" + size,
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "spring.cache.type=none",
+                "logging.level.root=WARN",
+                "logging.level.com.portfolio=WARN",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+
+        projectRepository = context.getBean(ProjectRepository.class);
+        codeRepositoryRepository = context.getBean(CodeRepositoryRepository.class);
+        projectService = context.getBean(ProjectService.class);
+        codeRepositoryService = context.getBean(CodeRepositoryService.class);
+
+        BenchmarkData.seed(context, size);
+
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Project> findAllProjects() {
+        return projectRepository.findAllByOrderByDisplayOrderAsc();
+    }
+
+    @Benchmark
+    public List<Project> findFeaturedProjects() {
+        return projectRepository.findByIsFeaturedTrueOrderByDisplayOrderAsc();
+    }
+
+    @Benchmark
+    public List<CodeRepositorySummary> findRepositorySummaries() {
+        return codeRepositoryRepository.findAllSummaries();
+    }
+
+    @Benchmark
+    public List<Project> projectServiceGetAllProjects() {
+        return projectService.getAllProjects();
+    }
+
+    @Benchmark
+    public List<CodeRepositorySummary> codeRepositoryServiceGetAllRepositories() {
+        return codeRepositoryService.getAllRepositories();
+    }
+
+    @Benchmark
+    public MvcResult getProjectsEndpoint() throws Exception {
+        return mockMvc.perform(get("/api/projects")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getProjectsEndpointRendered(NoSnapshots noSnapshots) throws Exception {
+        return mockMvc.perform(get("/api/projects")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getProjectsByTagEndpoint() throws Exception {
+        return mockMvc.perform(get("/api/projects/tag/java")).andReturn();
+    }
+
+    /**
+     * Only drops the rendered snapshots: a catalogue event would also rebuild
+     * the tag and search indexes.
+     */
+    @State(Scope.Benchmark)
+    public static class NoSnapshots {
+
+        @Setup(Level.Invocation)
+        public void invalidate(CatalogueBenchmark benchmark) {
+            benchmark.context.getBean(SnapshotService.class).invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.portfolio.benchmark;
+
+import com.portfolio.service.ContactMessageIngestionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code POST /api/contact} from 64 concurrent callers over HTTP, with the
+ * synchronous per-request insert ({@code async=false}) against the queued
+ * batch writer ({@code async=true}). Both use a 10-connection pool. The
+ * per-thread counters report how many calls were accepted and how many were
+ * shed with 429; after each iteration the writer's stats are printed so the
+ * rows actually written can be compared with the calls accepted.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class ContactIngestionBenchmark {
+
+    private static final String BODY =
+            "{\"name\":\"Load Test\",\"email\":\"load@example.com\",\"message\":\"A message of a realistic length for the contact form.\"}";
+
+    @Param({"false", "true"})
+    public boolean async;
+
+    private ConfigurableApplicationContext context;
+    private ContactMessageIngestionService ingestionService;
+    private HttpClient client;
+    private URI uri;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkData.start(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:contact-benchmark-" + async,
+                "spring.datasource.hikari.maximum-pool-size=10",
+                "portfolio.contact.ingestion.async=" + async,
+                "portfolio.seed.enabled=false",
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN",
+                "logging.level.com.portfolio=WARN",
+                "portfolio.access-log.sample-rate=0");
+        ingestionService = context.getBean(ContactMessageIngestionService.class);
+        client = HttpClient.newHttpClient();
+        uri = URI.create("http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort()
+                + "/api/contact");
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        System.out.println();
+        System.out.println("ingestion " + ingestionService.getStats());
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long stored;
+        public long shed;
+        public long failed;
+    }
+
+    @Benchmark
+    public int post(Outcomes outcomes) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(BODY))
+                .build();
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        switch (status) {
+            case 201, 202 -> outcomes.stored++;
+            case 429 -> outcomes.shed++;
+            default -> outcomes.failed++;
+        }
+        return status;
+    }
+}
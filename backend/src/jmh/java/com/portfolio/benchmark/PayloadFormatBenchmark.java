@@ -0,0 +1,102 @@
+package com.portfolio.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.portfolio.domain.model.CodeRepository;
+import com.portfolio.domain.model.Project;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization time of the catalogue payloads per wire format. Payload sizes
+ * for each format are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadFormatBenchmark {
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private ObjectMapper json;
+    private ObjectMapper cbor;
+    private ObjectMapper smile;
+    private List<Project> projects;
+    private List<CodeRepository> repositories;
+
+    @Setup
+    public void setUp() throws IOException {
+        json = Jackson2ObjectMapperBuilder.json().build();
+        cbor = json.copyWith(new CBORFactory());
+        smile = json.copyWith(new SmileFactory());
+        projects = BenchmarkData.projects(size);
+        repositories = BenchmarkData.repositories(Math.max(1, size / 10), 10);
+
+        for (String payload : List.of("projects", "repositories")) {
+            Object value = payload.equals("projects") ? projects : repositories;
+            byte[] plain = json.writeValueAsBytes(value);
+            System.out.printf("%n[%s x %d] json=%d B, json+gzip=%d B, cbor=%d B, smile=%d B%n",
+                    payload, size, plain.length, gzip(plain).length,
+                    cbor.writeValueAsBytes(value).length, smile.writeValueAsBytes(value).length);
+        }
+    }
+
+    @Benchmark
+    public byte[] projectsJson() throws IOException {
+        return json.writeValueAsBytes(projects);
+    }
+
+    @Benchmark
+    public byte[] projectsJsonGzip() throws IOException {
+        return gzip(json.writeValueAsBytes(projects));
+    }
+
+    @Benchmark
+    public byte[] projectsCbor() throws IOException {
+        return cbor.writeValueAsBytes(projects);
+    }
+
+    @Benchmark
+    public byte[] projectsSmile() throws IOException {
+        return smile.writeValueAsBytes(projects);
+    }
+
+    @Benchmark
+    public byte[] repositoriesJson() throws IOException {
+        return json.writeValueAsBytes(repositories);
+    }
+
+    @Benchmark
+    public byte[] repositoriesJsonGzip() throws IOException {
+        return gzip(json.writeValueAsBytes(repositories));
+    }
+
+    @Benchmark
+    public byte[] repositoriesCbor() throws IOException {
+        return cbor.writeValueAsBytes(repositories);
+    }
+
+    @Benchmark
+    public byte[] repositoriesSmile() throws IOException {
+        return smile.writeValueAsBytes(repositories);
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,95 @@
+package com.portfolio.benchmark;
+
+import com.portfolio.service.CatalogueChangedEvent;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What a page load costs: the four sequential calls the frontend used to make
+ * against the single {@code /api/portfolio} call, over real HTTP on loopback.
+ * Sample mode reports p50/p95/p99 per benchmark. With {@code cold=true} every
+ * invocation starts with the snapshots invalidated and the catalogue cache
+ * cleared, so responses are rendered from the database instead of served
+ * pre-serialized.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PortfolioBenchmark {
+
+    private static final String[] PAGE_CALLS = {"/api/projects", "/api/projects/featured", "/api/skills", "/api/repositories"};
+
+    @Param({"100", "1000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean cold;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private CacheManager cacheManager;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkData.start(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:portfolio-benchmark-" + size,
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN",
+                "logging.level.com.portfolio=WARN",
+                "portfolio.access-log.sample-rate=0");
+
+        BenchmarkData.seed(context, size);
+
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        client = HttpClient.newHttpClient();
+        cacheManager = context.getBean(CacheManager.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void invalidate() {
+        if (cold) {
+            context.publishEvent(new CatalogueChangedEvent(CatalogueChangedEvent.Type.PROJECT, null));
+            cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public long fourCalls() throws IOException, InterruptedException {
+        long bytes = 0;
+        for (String path : PAGE_CALLS) {
+            bytes += get(path);
+        }
+        return bytes;
+    }
+
+    @Benchmark
+    public long aggregate() throws IOException, InterruptedException {
+        return get("/api/portfolio");
+    }
+
+    private long get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Accept-Encoding", "gzip")
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray()).body().length;
+    }
+}
@@ -0,0 +1,113 @@
+package com.portfolio.benchmark;
+
+import com.portfolio.domain.model.Project;
+import com.portfolio.repository.ProjectRepository;
+import com.portfolio.repository.ReactiveProjectRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The project listing through JPA on the JDBC pool against the same listing
+ * through R2DBC, with 64 concurrent callers and both pools capped at 10
+ * connections. The second-level and query caches are off so every call reads
+ * the database. Peak connections in use and callers waiting for one are
+ * sampled every millisecond and printed after each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class ReactiveCatalogueBenchmark {
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private ConfigurableApplicationContext context;
+    private ProjectRepository projectRepository;
+    private ReactiveProjectRepository reactiveProjectRepository;
+    private HikariPoolMXBean jdbcPool;
+    private PoolMetrics r2dbcPool;
+
+    private ScheduledExecutorService sampler;
+    private final AtomicInteger jdbcActive = new AtomicInteger();
+    private final AtomicInteger jdbcWaiting = new AtomicInteger();
+    private final AtomicInteger r2dbcActive = new AtomicInteger();
+    private final AtomicInteger r2dbcWaiting = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void start() throws SQLException {
+        context = BenchmarkData.start(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:reactive-benchmark-" + size,
+                "spring.datasource.hikari.maximum-pool-size=10",
+                "portfolio.reactive.url=r2dbc:h2:mem:///reactive-benchmark-" + size,
+                "portfolio.reactive.pool.max-size=10",
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                "spring.cache.type=none",
+                "logging.level.root=WARN",
+                "logging.level.com.portfolio=WARN");
+
+        projectRepository = context.getBean(ProjectRepository.class);
+        reactiveProjectRepository = context.getBean(ReactiveProjectRepository.class);
+        jdbcPool = context.getBean(DataSource.class).unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        r2dbcPool = ((ConnectionPool) context.getBean(DatabaseClient.class).getConnectionFactory())
+                .getMetrics().orElseThrow();
+
+        BenchmarkData.seed(context, size);
+
+        sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            jdbcActive.accumulateAndGet(jdbcPool.getActiveConnections(), Math::max);
+            jdbcWaiting.accumulateAndGet(jdbcPool.getThreadsAwaitingConnection(), Math::max);
+            r2dbcActive.accumulateAndGet(r2dbcPool.acquiredSize(), Math::max);
+            r2dbcWaiting.accumulateAndGet(r2dbcPool.pendingAcquireSize(), Math::max);
+        }, 0, 1, TimeUnit.MILLISECONDS);
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportConnections() {
+        System.out.printf("%n  peak connections: jdbc %d in use / %d waiting, r2dbc %d in use / %d waiting%n",
+                jdbcActive.getAndSet(0), jdbcWaiting.getAndSet(0),
+                r2dbcActive.getAndSet(0), r2dbcWaiting.getAndSet(0));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        sampler.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    public List<Project> jpaFindAllProjects() {
+        return projectRepository.findAllByOrderByDisplayOrderAsc();
+    }
+
+    @Benchmark
+    public List<Project> r2dbcFindAllProjects() {
+        return reactiveProjectRepository.findAllByOrderByDisplayOrderAsc().collectList().block();
+    }
+
+    @Benchmark
+    public Long r2dbcStreamAllProjects() {
+        // Consumes the stream without collecting it, as the NDJSON endpoint does
+        return reactiveProjectRepository.findAllByOrderByDisplayOrderAsc().count().block();
+    }
+}
@@ -0,0 +1,54 @@
+package com.portfolio.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.domain.model.CodeRepository;
+import com.portfolio.domain.model.Project;
+import com.portfolio.domain.model.Skill;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-JSON cost of the catalogue payloads, independent of the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<Project> projects;
+    private List<Skill> skills;
+    private List<CodeRepository> repositories;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        projects = BenchmarkData.projects(size);
+        skills = BenchmarkData.skills(size);
+        repositories = BenchmarkData.repositories(Math.max(1, size / 10), 10);
+    }
+
+    @Benchmark
+    public byte[] serializeProjects() throws Exception {
+        return objectMapper.writeValueAsBytes(projects);
+    }
+
+    @Benchmark
+    public byte[] serializeSkills() throws Exception {
+        return objectMapper.writeValueAsBytes(skills);
+    }
+
+    @Benchmark
+    public byte[] serializeRepositories() throws Exception {
+        return objectMapper.writeValueAsBytes(repositories);
+    }
+}
@@ -0,0 +1,100 @@
+package com.portfolio.benchmark;
+
+import com.portfolio.domain.model.ContactMessage;
+import com.portfolio.repository.ContactMessageRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tail latency of the two request models with more concurrent callers (256)
+ * than Tomcat has platform threads (200). With {@code virtualThreads=false}
+ * the excess requests wait for a pool thread; with {@code true} each request
+ * runs on its own virtual thread behind the bulkheads, which answer 503 when
+ * they stay full. Every call reads an uncached page of contact messages, so
+ * each request holds a connection. Sample mode reports p50/p95/p99; the
+ * status counts are printed after each iteration. The virtual-thread case
+ * needs Java 21.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(256)
+@Fork(1)
+public class ThreadModeBenchmark {
+
+    private static final int MESSAGES = 1000;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI uri;
+    private final AtomicLong ok = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void start() {
+        if (virtualThreads && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need Java 21, running on " + Runtime.version());
+        }
+        context = BenchmarkData.start(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:thread-mode-benchmark-" + virtualThreads,
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "portfolio.bulkhead.enabled=" + virtualThreads,
+                "portfolio.seed.enabled=false",
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN",
+                "logging.level.com.portfolio=WARN",
+                "portfolio.access-log.sample-rate=0");
+
+        List<ContactMessage> messages = new ArrayList<>(MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            messages.add(new ContactMessage(null, "Caller " + i, "caller" + i + "@example.com",
+                    "A message of a realistic length for the contact form.", i % 10 == 0, null));
+        }
+        context.getBean(ContactMessageRepository.class).saveAll(messages);
+
+        client = HttpClient.newHttpClient();
+        uri = URI.create("http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort()
+                + "/api/contact?size=20");
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        System.out.println();
+        System.out.println("responses ok=" + ok.getAndSet(0) + " rejected=" + rejected.getAndSet(0)
+                + " failed=" + failed.getAndSet(0));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public int readPage() throws IOException, InterruptedException {
+        int status = client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        switch (status) {
+            case 200 -> ok.incrementAndGet();
+            case 503 -> rejected.incrementAndGet();
+            default -> failed.incrementAndGet();
+        }
+        return status;
+    }
+}
@@ -1,12 +1,21 @@
 package com.portfolio;
 
+import com.portfolio.config.PortfolioRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(PortfolioRuntimeHints.class)
 public class PortfolioApplication {
 
+    private static final int STARTUP_STEP_CAPACITY = 4096;
+
     public static void main(String[] args) {
-        SpringApplication.run(PortfolioApplication.class, args);
+        SpringApplication application = new SpringApplication(PortfolioApplication.class);
+        // Record the startup timeline for /actuator/startup and StartupReporter
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
 }
@@ -0,0 +1,67 @@
+package com.portfolio.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fair semaphore with a bounded wait. Fairness hands permits out in arrival
+ * order, so under saturation callers queue instead of starving each other.
+ */
+class Bulkhead {
+
+    private final String name;
+    private final Semaphore semaphore;
+    private final long maxWaitMillis;
+    private final AtomicLong rejected = new AtomicLong();
+
+    Bulkhead(String name, int permits, long maxWaitMillis) {
+        this.name = name;
+        this.semaphore = new Semaphore(permits, true);
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    boolean tryAcquire() throws InterruptedException {
+        if (semaphore.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+            return true;
+        }
+        rejected.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Takes a permit only if one is free right now, ahead of any queued
+     * caller, for callers that must not park their thread.
+     */
+    boolean tryAcquireNow() {
+        if (semaphore.tryAcquire()) {
+            return true;
+        }
+        rejected.incrementAndGet();
+        return false;
+    }
+
+    void release() {
+        semaphore.release();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    void bindTo(MeterRegistry registry) {
+        Gauge.builder("portfolio.bulkhead.available", semaphore, Semaphore::availablePermits)
+                .tag("bulkhead", name)
+                .register(registry);
+        Gauge.builder("portfolio.bulkhead.queued", semaphore, Semaphore::getQueueLength)
+                .tag("bulkhead", name)
+                .register(registry);
+        FunctionCounter.builder("portfolio.bulkhead.rejected", rejected, AtomicLong::get)
+                .tag("bulkhead", name)
+                .register(registry);
+    }
+}
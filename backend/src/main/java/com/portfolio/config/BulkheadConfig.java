@@ -0,0 +1,94 @@
+package com.portfolio.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulkheads for the virtual-thread mode, where request concurrency is no
+ * longer capped by the Tomcat thread pool: one in front of the connection
+ * pool and one each for public reads and admin writes in the service layer.
+ * Enabled by {@code portfolio.bulkhead.enabled}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "portfolio.bulkhead.enabled", havingValue = "true")
+public class BulkheadConfig {
+
+    @Bean
+    public static DataSourceBulkheadPostProcessor dataSourceBulkheadPostProcessor(
+            @Value("${portfolio.bulkhead.datasource.permits:0}") int permits,
+            @Value("${portfolio.bulkhead.datasource.max-wait-ms:5000}") long maxWaitMillis) {
+        return new DataSourceBulkheadPostProcessor(permits, maxWaitMillis);
+    }
+
+    @Bean
+    public Bulkhead readBulkhead(
+            @Value("${portfolio.bulkhead.read.permits:64}") int permits,
+            @Value("${portfolio.bulkhead.read.max-wait-ms:1000}") long maxWaitMillis) {
+        return new Bulkhead("read", permits, maxWaitMillis);
+    }
+
+    @Bean
+    public Bulkhead writeBulkhead(
+            @Value("${portfolio.bulkhead.write.permits:4}") int permits,
+            @Value("${portfolio.bulkhead.write.max-wait-ms:2000}") long maxWaitMillis) {
+        return new Bulkhead("write", permits, maxWaitMillis);
+    }
+
+    @Bean
+    public ServiceBulkheadAspect serviceBulkheadAspect(Bulkhead readBulkhead, Bulkhead writeBulkhead) {
+        return new ServiceBulkheadAspect(readBulkhead, writeBulkhead);
+    }
+
+    @Bean
+    public MeterBinder bulkheadMetrics(List<Bulkhead> bulkheads, DataSourceBulkheadPostProcessor dataSourceBulkheads) {
+        return registry -> {
+            bulkheads.forEach(bulkhead -> bulkhead.bindTo(registry));
+            dataSourceBulkheads.getBulkheads().forEach(bulkhead -> bulkhead.bindTo(registry));
+        };
+    }
+
+    /**
+     * Wraps every DataSource in a {@link BulkheadDataSource}. Without an
+     * explicit permit count the Hikari maximum pool size is used, or Hikari's
+     * default of 10 when none is configured.
+     */
+    static class DataSourceBulkheadPostProcessor implements BeanPostProcessor {
+
+        private static final int DEFAULT_POOL_SIZE = 10;
+
+        private final int permits;
+        private final long maxWaitMillis;
+        private final List<Bulkhead> bulkheads = new ArrayList<>();
+
+        DataSourceBulkheadPostProcessor(int permits, long maxWaitMillis) {
+            this.permits = permits;
+            this.maxWaitMillis = maxWaitMillis;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof BulkheadDataSource) {
+                return bean;
+            }
+            // Hikari reports -1 until its pool starts if the size was left at the default
+            int poolSize = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : -1;
+            int limit = permits > 0 ? permits : poolSize > 0 ? poolSize : DEFAULT_POOL_SIZE;
+            Bulkhead bulkhead = new Bulkhead("datasource:" + beanName, limit, maxWaitMillis);
+            bulkheads.add(bulkhead);
+            return new BulkheadDataSource(dataSource, bulkhead);
+        }
+
+        List<Bulkhead> getBulkheads() {
+            return bulkheads;
+        }
+    }
+}
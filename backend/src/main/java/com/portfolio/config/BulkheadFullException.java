@@ -0,0 +1,23 @@
+package com.portfolio.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Thrown when a bulkhead has no free permit within its wait time; answered
+ * with 503 and a Retry-After hint.
+ */
+public class BulkheadFullException extends ResponseStatusException {
+
+    public BulkheadFullException(String bulkhead) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "Bulkhead '" + bulkhead + "' is full");
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        return headers;
+    }
+}
@@ -0,0 +1,38 @@
+package com.portfolio.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the in-memory catalogue cache. Size, TTL and statistics are set by
+ * {@code spring.cache.caffeine.spec} in application.properties. Listings are
+ * not cached here: they are served as rendered snapshots by
+ * {@code SnapshotService}, which reloads them from the database.
+ * <p>
+ * The Caffeine manager is wrapped so that puts and evictions made inside a
+ * transaction are applied after it commits. Otherwise a {@code @CacheEvict}
+ * runs before the commit and a concurrent read can put the old row back.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PROJECTS = "projects";
+    public static final String PROJECT = "project";
+    public static final String SKILL = "skill";
+    public static final String REPOSITORY = "repository";
+
+    @Bean
+    public static BeanPostProcessor transactionAwareCacheManager() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof CaffeineCacheManager caffeine ? new TransactionAwareCacheManagerProxy(caffeine) : bean;
+            }
+        };
+    }
+}
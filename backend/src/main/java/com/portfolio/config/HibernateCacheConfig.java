@@ -0,0 +1,65 @@
+package com.portfolio.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * JCache manager for the Hibernate second-level cache. The regions are
+ * created here, with their size bounds, before Hibernate starts: Caffeine
+ * cannot look up a region named in hibernate-cache.conf when the name
+ * contains dots, which every entity region name does, and refuses to create
+ * one that is declared there. That file therefore only holds the defaults,
+ * which apply to any region not listed below.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    private static final URI DEFAULTS = URI.create("classpath:hibernate-cache.conf");
+
+    private static final Map<String, Long> REGION_SIZES = Map.of(
+            "com.portfolio.domain.model.Project", 2000L,
+            "com.portfolio.domain.model.Project.tags", 2000L,
+            "com.portfolio.domain.model.Skill", 2000L,
+            "com.portfolio.domain.model.CodeRepository", 500L,
+            "com.portfolio.domain.model.CodeRepository.files", 500L,
+            "com.portfolio.domain.model.CodeRepository.CodeFile", 5000L,
+            // Must outlive every cached query result, so it is not expired
+            "default-update-timestamps-region", 10_000L);
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final long QUERY_RESULTS_SIZE = 500;
+    private static final Duration QUERY_RESULTS_TTL = Duration.ofMinutes(10);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(DEFAULTS, getClass().getClassLoader());
+        REGION_SIZES.forEach((region, size) -> cacheManager.createCache(region, region(size)));
+        cacheManager.createCache(QUERY_RESULTS_REGION, region(QUERY_RESULTS_SIZE)
+                .setExpireAfterWrite(OptionalLong.of(QUERY_RESULTS_TTL.toNanos())));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maximumSize) {
+        return new CaffeineConfiguration<>()
+                .setStoreByValue(false)
+                .setStatisticsEnabled(true)
+                .setMaximumSize(OptionalLong.of(maximumSize));
+    }
+}
@@ -0,0 +1,66 @@
+package com.portfolio.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every call into the repository and service packages. Controller
+ * latency is already covered by the {@code http.server.requests} metric.
+ * Timers are registered once per method and outcome and then reused, so a
+ * timed call does not look up the registry or allocate tags.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<Method, Timer> errorTimers = new ConcurrentHashMap<>();
+
+    @Around("execution(* com.portfolio.repository..*.*(..))")
+    public Object timeRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("portfolio.repository.calls", "repository", joinPoint);
+    }
+
+    @Around("execution(public * com.portfolio.service..*.*(..)) && @within(org.springframework.stereotype.Service)")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("portfolio.service.calls", "service", joinPoint);
+    }
+
+    private Object time(String name, String ownerTag, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
+        try {
+            Object result = joinPoint.proceed();
+            success = true;
+            return result;
+        } finally {
+            sample.stop(timer(name, ownerTag, joinPoint, success));
+        }
+    }
+
+    private Timer timer(String name, String ownerTag, ProceedingJoinPoint joinPoint, boolean success) {
+        Map<Method, Timer> timers = success ? successTimers : errorTimers;
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Timer timer = timers.get(method);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(method, m -> Timer.builder(name)
+                    .tag(ownerTag, joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", m.getName())
+                    .tag("outcome", success ? "success" : "error")
+                    .register(meterRegistry));
+        }
+        return timer;
+    }
+}
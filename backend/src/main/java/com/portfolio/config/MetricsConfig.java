@@ -0,0 +1,31 @@
+package com.portfolio.config;
+
+import com.portfolio.service.ContactMessageIngestionService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder contactIngestionMetrics(ContactMessageIngestionService ingestionService) {
+        return registry -> {
+            Gauge.builder("portfolio.contact.ingestion.queue.depth",
+                            ingestionService, service -> service.getStats().get("queueDepth"))
+                    .register(registry);
+            Gauge.builder("portfolio.contact.ingestion.queue.remaining",
+                            ingestionService, service -> service.getStats().get("remainingCapacity"))
+                    .register(registry);
+            for (String counter : List.of("accepted", "rejected", "written", "failed", "batches")) {
+                FunctionCounter.builder("portfolio.contact.ingestion." + counter,
+                                ingestionService, service -> service.getStats().get(counter))
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.portfolio.config;
+
+import com.portfolio.domain.dto.CodeFileSummary;
+import com.portfolio.domain.dto.CodeRepositorySummary;
+import com.portfolio.domain.dto.CursorPage;
+import com.portfolio.domain.dto.ImportResult;
+import com.portfolio.domain.dto.PortfolioView;
+import com.portfolio.domain.dto.SearchResult;
+import com.portfolio.domain.model.CodeBlob;
+import com.portfolio.domain.model.CodeRender;
+import com.portfolio.domain.model.CodeRepository;
+import com.portfolio.domain.model.ContactMessage;
+import com.portfolio.domain.model.Project;
+import com.portfolio.domain.model.SeedVersion;
+import com.portfolio.domain.model.Skill;
+import com.portfolio.service.SeedDataset;
+import com.portfolio.service.TransferRecord;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * Native-image hints for types that Spring AOT cannot discover on its own.
+ * Entities need their Lombok-generated accessors and constructors for
+ * Hibernate, and the same types are bound by Jackson when requests are read,
+ * responses and snapshots are written, and the seed dataset is parsed.
+ */
+public class PortfolioRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<Class<?>> ENTITIES = List.of(
+            Project.class,
+            Skill.class,
+            ContactMessage.class,
+            CodeRepository.class,
+            CodeRepository.CodeFile.class,
+            CodeBlob.class,
+            CodeRender.class,
+            SeedVersion.class);
+
+    private static final List<Class<?>> JSON_TYPES = List.of(
+            Project.class,
+            Skill.class,
+            ContactMessage.class,
+            CodeRepository.class,
+            CodeRepository.CodeFile.class,
+            CodeRepositorySummary.class,
+            CodeFileSummary.class,
+            CursorPage.class,
+            ImportResult.class,
+            PortfolioView.class,
+            SearchResult.class,
+            SeedDataset.class,
+            SeedDataset.SeedRepository.class,
+            TransferRecord.class);
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> entity : ENTITIES) {
+            hints.reflection().registerType(entity,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
+        }
+        BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+        bindingHints.registerReflectionHints(hints.reflection(), JSON_TYPES.toArray(Class<?>[]::new));
+        hints.resources().registerPattern("seed/*.json");
+        hints.resources().registerPattern("hibernate-cache.conf");
+    }
+}
@@ -0,0 +1,79 @@
+package com.portfolio.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * R2DBC connection pool for the reactive read API. The pool is deliberately
+ * not exposed as a {@code ConnectionFactory} bean: Spring Boot backs off the
+ * JDBC DataSource when one exists, which would take JPA down with it. For the
+ * same reason {@code R2dbcAutoConfiguration} is excluded in
+ * application.properties.
+ */
+@Configuration
+@ConditionalOnProperty(name = "portfolio.reactive.enabled", havingValue = "true", matchIfMissing = true)
+public class ReactiveDatabaseConfig implements DisposableBean {
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(
+            @Value("${portfolio.reactive.url}") String url,
+            @Value("${portfolio.reactive.username:}") String username,
+            @Value("${portfolio.reactive.password:}") String password,
+            @Value("${portfolio.reactive.pool.initial-size:2}") int initialSize,
+            @Value("${portfolio.reactive.pool.max-size:10}") int maxSize,
+            @Value("${portfolio.reactive.pool.max-acquire-time-ms:5000}") long maxAcquireTimeMillis) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options.build()))
+                .name("portfolio-reactive")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxAcquireTime(Duration.ofMillis(maxAcquireTimeMillis))
+                .build());
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Bean
+    public MeterBinder reactivePoolMetrics(DatabaseClient reactiveDatabaseClient) {
+        return registry -> ((ConnectionPool) reactiveDatabaseClient.getConnectionFactory()).getMetrics()
+                .ifPresent(metrics -> {
+                    gauge(registry, "portfolio.reactive.pool.acquired", metrics, PoolMetrics::acquiredSize);
+                    gauge(registry, "portfolio.reactive.pool.idle", metrics, PoolMetrics::idleSize);
+                    gauge(registry, "portfolio.reactive.pool.pending", metrics, PoolMetrics::pendingAcquireSize);
+                    gauge(registry, "portfolio.reactive.pool.max", metrics, PoolMetrics::getMaxAllocatedSize);
+                });
+    }
+
+    private static void gauge(MeterRegistry registry, String name,
+                              PoolMetrics metrics, ToDoubleFunction<PoolMetrics> value) {
+        Gauge.builder(name, metrics, value).register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.portfolio.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Single access-log line per request, replacing per-handler log statements.
+ * Successful fast requests are sampled; errors and slow requests are always
+ * logged. Output goes through the asynchronous appender in logback-spring.xml.
+ */
+@Component
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS");
+
+    private final double sampleRate;
+    private final long slowThresholdMillis;
+
+    public RequestLoggingFilter(
+            @Value("${portfolio.access-log.sample-rate:1.0}") double sampleRate,
+            @Value("${portfolio.access-log.slow-threshold-ms:500}") long slowThresholdMillis) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdMillis = slowThresholdMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // Streaming responses finish after this thread returns; log on completion.
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        log(request, response, start);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                log(request, response, start);
+            }
+        }
+    }
+
+    private void log(HttpServletRequest request, HttpServletResponse response, long start) {
+        if (!ACCESS_LOG.isInfoEnabled()) {
+            return;
+        }
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+        int status = response.getStatus();
+        boolean alwaysLog = status >= 500 || durationMillis >= slowThresholdMillis;
+        if (!alwaysLog && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        ACCESS_LOG.info("method={} route={} status={} duration_ms={}",
+                request.getMethod(), route != null ? route : request.getRequestURI(), status, durationMillis);
+    }
+}
@@ -0,0 +1,108 @@
+package com.portfolio.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Separate bulkheads for public reads (GET/HEAD requests) and admin writes
+ * (every other method), applied around service calls so a burst of one kind
+ * cannot take every connection from the other. Runs outside the transaction
+ * advice, so a permit is held before a connection is requested. Calls made
+ * outside a request (startup, event listeners, background writers) and
+ * nested service calls are not limited again. A {@link Flux} or {@link Mono}
+ * only reads once subscribed, so its permit is taken on subscription and
+ * held until the stream completes, fails or is cancelled. Subscribing must
+ * not park the thread, so a stream fails at once when no permit is free
+ * instead of waiting, and it marks its subscriber context so reactive service
+ * calls composed into it share its permit.
+ */
+@Aspect
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+class ServiceBulkheadAspect {
+
+    private static final ThreadLocal<Boolean> HOLDING_PERMIT = new ThreadLocal<>();
+    static final String HOLDING_PERMIT_KEY = ServiceBulkheadAspect.class.getName() + ".holdingPermit";
+
+    private final Bulkhead readBulkhead;
+    private final Bulkhead writeBulkhead;
+
+    ServiceBulkheadAspect(Bulkhead readBulkhead, Bulkhead writeBulkhead) {
+        this.readBulkhead = readBulkhead;
+        this.writeBulkhead = writeBulkhead;
+    }
+
+    @Around("execution(public * com.portfolio.service..*.*(..)) && @within(org.springframework.stereotype.Service)")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (HOLDING_PERMIT.get() != null
+                || !(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return joinPoint.proceed();
+        }
+
+        Bulkhead bulkhead = isRead(attributes.getRequest()) ? readBulkhead : writeBulkhead;
+        Class<?> returnType = ((MethodSignature) joinPoint.getSignature()).getReturnType();
+        if (Flux.class.isAssignableFrom(returnType)) {
+            return limit((Flux<?>) joinPoint.proceed(), bulkhead);
+        }
+        if (Mono.class.isAssignableFrom(returnType)) {
+            return limit((Mono<?>) joinPoint.proceed(), bulkhead);
+        }
+
+        acquire(bulkhead);
+        HOLDING_PERMIT.set(Boolean.TRUE);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            HOLDING_PERMIT.remove();
+            bulkhead.release();
+        }
+    }
+
+    private static <T> Flux<T> limit(Flux<T> flux, Bulkhead bulkhead) {
+        return Flux.deferContextual(context -> context.hasKey(HOLDING_PERMIT_KEY) ? flux
+                : Flux.using(() -> acquireNow(bulkhead),
+                        permit -> flux.contextWrite(Context.of(HOLDING_PERMIT_KEY, Boolean.TRUE)),
+                        Bulkhead::release));
+    }
+
+    private static <T> Mono<T> limit(Mono<T> mono, Bulkhead bulkhead) {
+        return Mono.deferContextual(context -> context.hasKey(HOLDING_PERMIT_KEY) ? mono
+                : Mono.using(() -> acquireNow(bulkhead),
+                        permit -> mono.contextWrite(Context.of(HOLDING_PERMIT_KEY, Boolean.TRUE)),
+                        Bulkhead::release));
+    }
+
+    private static Bulkhead acquire(Bulkhead bulkhead) {
+        try {
+            if (!bulkhead.tryAcquire()) {
+                throw new BulkheadFullException(bulkhead.getName());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BulkheadFullException(bulkhead.getName());
+        }
+        return bulkhead;
+    }
+
+    private static Bulkhead acquireNow(Bulkhead bulkhead) {
+        if (!bulkhead.tryAcquireNow()) {
+            throw new BulkheadFullException(bulkhead.getName());
+        }
+        return bulkhead;
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method);
+    }
+}
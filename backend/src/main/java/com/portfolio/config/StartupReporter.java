@@ -0,0 +1,73 @@
+package com.portfolio.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reports where startup time went. On ready, logs JVM uptime and the slowest
+ * recorded startup steps (the full timeline is at {@code /actuator/startup});
+ * after the first handled request, records time-to-first-request as the
+ * {@code portfolio.startup.first.request} gauge.
+ */
+@Component
+@Slf4j
+public class StartupReporter {
+
+    private static final int SLOWEST_STEPS = 10;
+
+    private final ConfigurableApplicationContext context;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong firstRequestUptimeMillis = new AtomicLong(-1);
+
+    public StartupReporter(ConfigurableApplicationContext context, MeterRegistry meterRegistry) {
+        this.context = context;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        log.info("Application ready {} ms after JVM start", ManagementFactory.getRuntimeMXBean().getUptime());
+        if (context.getApplicationStartup() instanceof BufferingApplicationStartup startup) {
+            startup.getBufferedTimeline().getEvents().stream()
+                    .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                    .limit(SLOWEST_STEPS)
+                    .forEach(event -> log.info("Startup step {} ms: {}{}",
+                            event.getDuration().toMillis(), event.getStartupStep().getName(), describe(event.getStartupStep())));
+        }
+    }
+
+    @EventListener(ServletRequestHandledEvent.class)
+    public void onRequestHandled() {
+        if (firstRequestUptimeMillis.get() >= 0
+                || !firstRequestUptimeMillis.compareAndSet(-1, ManagementFactory.getRuntimeMXBean().getUptime())) {
+            return;
+        }
+        long uptime = firstRequestUptimeMillis.get();
+        TimeGauge.builder("portfolio.startup.first.request", firstRequestUptimeMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Time from JVM start until the first request was served")
+                .register(meterRegistry);
+        log.info("First request served {} ms after JVM start", uptime);
+    }
+
+    private static String describe(StartupStep step) {
+        StringBuilder tags = new StringBuilder();
+        for (StartupStep.Tag tag : step.getTags()) {
+            tags.append(' ').append(tag.getKey()).append('=').append(tag.getValue());
+        }
+        return tags.toString();
+    }
+}
@@ -0,0 +1,21 @@
+package com.portfolio.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Spring answers a malformed Accept header with 406, but an Accept header
+ * listing more than 50 media types fails while the handler is looked up, with
+ * an exception it leaves unhandled. Give it the same 406.
+ */
+@RestControllerAdvice
+public class AcceptHeaderAdvice {
+
+    @ExceptionHandler(InvalidMimeTypeException.class)
+    public ResponseEntity<Void> notAcceptable() {
+        return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+    }
+}
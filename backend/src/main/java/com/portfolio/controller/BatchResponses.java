@@ -0,0 +1,22 @@
+package com.portfolio.controller;
+
+import com.portfolio.domain.dto.BatchResult;
+import org.springframework.http.ResponseEntity;
+
+final class BatchResponses {
+
+    private BatchResponses() {
+    }
+
+    /**
+     * A batch with invalid items was rejected before anything was written, so
+     * it is answered with 400 and the validation errors; otherwise 200 with the
+     * per-item outcome, which may include items that were not found or whose
+     * chunk was rolled back.
+     */
+    static ResponseEntity<BatchResult> of(BatchResult result) {
+        return result.hasInvalidItems()
+                ? ResponseEntity.badRequest().body(result)
+                : ResponseEntity.ok(result);
+    }
+}
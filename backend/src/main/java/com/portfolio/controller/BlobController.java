@@ -0,0 +1,40 @@
+package com.portfolio.controller;
+
+import com.portfolio.service.CodeRepositoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/blobs")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+public class BlobController {
+    
+    // A hash always names the same bytes, so responses never need revalidation
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    
+    private final CodeRepositoryService codeRepositoryService;
+    
+    @GetMapping("/{hash}")
+    public ResponseEntity<StreamingResponseBody> getBlob(@PathVariable String hash, @RequestHeader HttpHeaders headers) {
+        return codeRepositoryService.findBlob(hash)
+                .map(blob -> BlobResponses.of(blob, BlobResponses.TEXT_PLAIN_UTF8, headers, IMMUTABLE))
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/{hash}/highlighted")
+    public ResponseEntity<StreamingResponseBody> getHighlightedBlob(
+            @PathVariable String hash,
+            @RequestParam String language,
+            @RequestHeader HttpHeaders headers) {
+        return codeRepositoryService.findHighlighted(hash, language)
+                .map(render -> BlobResponses.of(render, BlobResponses.TEXT_HTML_UTF8, headers, IMMUTABLE))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
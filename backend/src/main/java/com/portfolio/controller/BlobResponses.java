@@ -0,0 +1,60 @@
+package com.portfolio.controller;
+
+import com.portfolio.domain.model.CompressedContent;
+import com.portfolio.service.CodeBlobStore;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+final class BlobResponses {
+
+    static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+    static final MediaType TEXT_HTML_UTF8 = new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8);
+
+    private BlobResponses() {
+    }
+
+    /**
+     * Serves a stored body as UTF-8 text of the given type. Clients that accept gzip get the
+     * compressed bytes as stored; others get them decompressed on the fly.
+     * Streaming bodies bypass Spring's conditional request handling, so
+     * If-None-Match is checked here.
+     */
+    static ResponseEntity<StreamingResponseBody> of(CompressedContent blob, MediaType contentType,
+                                                    HttpHeaders requestHeaders, CacheControl cacheControl) {
+        boolean gzip = SnapshotResponses.acceptsGzip(requestHeaders.get(HttpHeaders.ACCEPT_ENCODING));
+        String etag = "\"" + blob.getHash() + (gzip ? "-gzip" : "") + "\"";
+        if (requestHeaders.getIfNoneMatch().contains(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(contentType)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .eTag(etag);
+        if (gzip) {
+            return response
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(blob.getCompressedSize())
+                    .body(outputStream -> outputStream.write(blob.getData()));
+        }
+        return response
+                .contentLength(blob.getSize())
+                .body(outputStream -> {
+                    Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+                    CodeBlobStore.copyContent(blob, writer);
+                    writer.flush();
+                });
+    }
+}
@@ -0,0 +1,78 @@
+package com.portfolio.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheStatsController {
+
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Map<String, Object>>> getCacheStats() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache found = cacheManager.getCache(name);
+            if (found instanceof TransactionAwareCacheDecorator decorator) {
+                found = decorator.getTargetCache();
+            }
+            if (found instanceof CaffeineCache cache) {
+                CacheStats stats = cache.getNativeCache().stats();
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("size", cache.getNativeCache().estimatedSize());
+                entry.put("hitCount", stats.hitCount());
+                entry.put("missCount", stats.missCount());
+                entry.put("hitRate", stats.hitRate());
+                entry.put("evictionCount", stats.evictionCount());
+                result.put(name, entry);
+            }
+        }
+        return ResponseEntity.ok(result);
+    }
+    
+    @GetMapping("/hibernate")
+    public ResponseEntity<Map<String, Object>> getHibernateCacheStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region != null) {
+                regions.put(regionName, hitRatio(region.getHitCount(), region.getMissCount(), region.getPutCount()));
+            }
+        }
+        
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        result.put("secondLevelCache", hitRatio(statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(), statistics.getSecondLevelCachePutCount()));
+        result.put("queryCache", hitRatio(statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount()));
+        result.put("regions", regions);
+        return ResponseEntity.ok(result);
+    }
+    
+    private static Map<String, Object> hitRatio(long hits, long misses, long puts) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("hitCount", hits);
+        entry.put("missCount", misses);
+        entry.put("putCount", puts);
+        entry.put("hitRate", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        return entry;
+    }
+}
@@ -1,50 +1,77 @@
 package com.portfolio.controller;
 
+import com.portfolio.domain.dto.BatchResult;
 import com.portfolio.domain.model.CodeRepository;
 import com.portfolio.service.CodeRepositoryService;
+import com.portfolio.service.SnapshotService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
+
 @RestController
 @RequestMapping("/api/repositories")
 @RequiredArgsConstructor
-@Slf4j
 @CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
 public class CodeRepositoryController {
     
     private final CodeRepositoryService codeRepositoryService;
+    private final SnapshotService snapshotService;
     
     @GetMapping
-    public ResponseEntity<List<CodeRepository>> getAllRepositories() {
-        log.info("GET /api/repositories - Fetching all code repositories");
-        List<CodeRepository> repositories = codeRepositoryService.getAllRepositories();
-        return ResponseEntity.ok(repositories);
+    public ResponseEntity<byte[]> getAllRepositories(@RequestHeader HttpHeaders headers) {
+        return SnapshotResponses.of(snapshotService, "repositories",
+                codeRepositoryService::getAllRepositories, headers);
     }
     
     @GetMapping("/{id}")
     public ResponseEntity<CodeRepository> getRepositoryById(@PathVariable Long id) {
-        log.info("GET /api/repositories/{} - Fetching code repository", id);
         return codeRepositoryService.getRepositoryById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
     
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<List<CodeRepository>> getRepositoriesByProjectId(@PathVariable Long projectId) {
-        log.info("GET /api/repositories/project/{} - Fetching repositories for project", projectId);
-        List<CodeRepository> repositories = codeRepositoryService.getRepositoriesByProjectId(projectId);
-        return ResponseEntity.ok(repositories);
+    public ResponseEntity<byte[]> getRepositoriesByProjectId(
+            @PathVariable Long projectId,
+            @RequestHeader HttpHeaders headers) {
+        return SnapshotResponses.of(snapshotService, "repositories:project:" + projectId,
+                () -> codeRepositoryService.getRepositoriesByProjectId(projectId), headers);
+    }
+    
+    @GetMapping("/{id}/files/content")
+    public ResponseEntity<StreamingResponseBody> getFileContent(
+            @PathVariable Long id,
+            @RequestParam String path,
+            @RequestHeader HttpHeaders headers) {
+        // The path may point at new content after an edit, so clients revalidate
+        return codeRepositoryService.findContentHash(id, path)
+                .flatMap(codeRepositoryService::findBlob)
+                .map(blob -> BlobResponses.of(blob, BlobResponses.TEXT_PLAIN_UTF8, headers, CacheControl.noCache()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/{id}/files/highlighted")
+    public ResponseEntity<StreamingResponseBody> getHighlightedFile(
+            @PathVariable Long id,
+            @RequestParam String path,
+            @RequestHeader HttpHeaders headers) {
+        return codeRepositoryService.findFile(id, path)
+                .filter(file -> file.getContentHash() != null)
+                .flatMap(file -> codeRepositoryService.findHighlighted(file.getContentHash(), file.getLanguage()))
+                .map(render -> BlobResponses.of(render, BlobResponses.TEXT_HTML_UTF8, headers, CacheControl.noCache()))
+                .orElse(ResponseEntity.notFound().build());
     }
     
     @PostMapping
     public ResponseEntity<CodeRepository> createRepository(@Valid @RequestBody CodeRepository codeRepository) {
-        log.info("POST /api/repositories - Creating new code repository: {}", codeRepository.getName());
         CodeRepository created = codeRepositoryService.createRepository(codeRepository);
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
@@ -53,16 +80,50 @@ public class CodeRepositoryController {
     public ResponseEntity<CodeRepository> updateRepository(
             @PathVariable Long id,
             @Valid @RequestBody CodeRepository codeRepository) {
-        log.info("PUT /api/repositories/{} - Updating code repository", id);
         return codeRepositoryService.updateRepository(id, codeRepository)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    @PutMapping("/{id}/files")
+    public ResponseEntity<CodeRepository.CodeFile> saveFile(
+            @PathVariable Long id,
+            @RequestParam String path,
+            @Valid @RequestBody CodeRepository.CodeFile file) {
+        return codeRepositoryService.saveFile(id, path, file)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @DeleteMapping("/{id}/files")
+    public ResponseEntity<Void> deleteFile(@PathVariable Long id, @RequestParam String path) {
+        boolean deleted = codeRepositoryService.deleteFile(id, path);
+        return deleted ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+    
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteRepository(@PathVariable Long id) {
-        log.info("DELETE /api/repositories/{} - Deleting code repository", id);
         boolean deleted = codeRepositoryService.deleteRepository(id);
         return deleted ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
     }
+    
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResult> createRepositories(@RequestBody List<CodeRepository> repositories) {
+        return BatchResponses.of(codeRepositoryService.createRepositories(repositories));
+    }
+    
+    @PutMapping("/batch")
+    public ResponseEntity<BatchResult> updateRepositories(@RequestBody List<CodeRepository> repositories) {
+        return BatchResponses.of(codeRepositoryService.updateRepositories(repositories));
+    }
+    
+    @DeleteMapping("/batch")
+    public ResponseEntity<BatchResult> deleteRepositories(@RequestParam List<Long> ids) {
+        return BatchResponses.of(codeRepositoryService.deleteRepositories(ids));
+    }
+    
+    @PutMapping("/batch/order")
+    public ResponseEntity<BatchResult> reorderRepositories(@RequestBody List<Long> ids) {
+        return BatchResponses.of(codeRepositoryService.reorderRepositories(ids));
+    }
 }
@@ -1,42 +1,56 @@
 package com.portfolio.controller;
 
+import com.portfolio.domain.dto.CursorPage;
 import com.portfolio.domain.model.ContactMessage;
+import com.portfolio.service.ContactMessageIngestionService;
 import com.portfolio.service.ContactMessageService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/contact")
 @RequiredArgsConstructor
-@Slf4j
 @CrossOrigin(origins = "http://localhost:3000")
 public class ContactMessageController {
 
     private final ContactMessageService contactMessageService;
+    private final ContactMessageIngestionService ingestionService;
 
     @GetMapping
-    public ResponseEntity<List<ContactMessage>> getAllMessages() {
-        log.info("GET /api/contact - Fetching all contact messages");
-        List<ContactMessage> messages = contactMessageService.getAllMessages();
-        return ResponseEntity.ok(messages);
+    public ResponseEntity<CursorPage<ContactMessage>> getAllMessages(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            return ResponseEntity.ok(contactMessageService.getMessages(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/unread")
-    public ResponseEntity<List<ContactMessage>> getUnreadMessages() {
-        log.info("GET /api/contact/unread - Fetching unread messages");
-        List<ContactMessage> messages = contactMessageService.getUnreadMessages();
-        return ResponseEntity.ok(messages);
+    public ResponseEntity<CursorPage<ContactMessage>> getUnreadMessages(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            return ResponseEntity.ok(contactMessageService.getUnreadMessages(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/unread/count")
+    public ResponseEntity<Map<String, Long>> countUnreadMessages() {
+        return ResponseEntity.ok(Map.of("count", contactMessageService.countUnreadMessages()));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<ContactMessage> getMessageById(@PathVariable Long id) {
-        log.info("GET /api/contact/{} - Fetching message by id", id);
         return contactMessageService.getMessageById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -44,14 +58,25 @@ public class ContactMessageController {
 
     @PostMapping
     public ResponseEntity<ContactMessage> createMessage(@Valid @RequestBody ContactMessage message) {
-        log.info("POST /api/contact - Creating new contact message");
+        if (ingestionService.isEnabled()) {
+            if (ingestionService.enqueue(message)) {
+                return ResponseEntity.accepted().body(message);
+            }
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        }
         ContactMessage createdMessage = contactMessageService.createMessage(message);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdMessage);
     }
 
+    @GetMapping("/ingestion/stats")
+    public ResponseEntity<Map<String, Long>> getIngestionStats() {
+        return ResponseEntity.ok(ingestionService.getStats());
+    }
+
     @PatchMapping("/{id}/read")
     public ResponseEntity<ContactMessage> markAsRead(@PathVariable Long id) {
-        log.info("PATCH /api/contact/{}/read - Marking message as read", id);
         try {
             ContactMessage updatedMessage = contactMessageService.markAsRead(id);
             return ResponseEntity.ok(updatedMessage);
@@ -62,7 +87,6 @@ public class ContactMessageController {
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteMessage(@PathVariable Long id) {
-        log.info("DELETE /api/contact/{} - Deleting message", id);
         contactMessageService.deleteMessage(id);
         return ResponseEntity.noContent().build();
     }
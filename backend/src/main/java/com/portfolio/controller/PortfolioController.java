@@ -0,0 +1,37 @@
+package com.portfolio.controller;
+
+import com.portfolio.service.PortfolioService;
+import com.portfolio.service.SnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/portfolio")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+public class PortfolioController {
+
+    private final PortfolioService portfolioService;
+    private final SnapshotService snapshotService;
+
+    @GetMapping
+    public ResponseEntity<byte[]> getPortfolio(
+            @RequestParam(required = false) List<String> fields,
+            @RequestHeader HttpHeaders headers) {
+        Set<PortfolioService.Field> selected;
+        try {
+            selected = PortfolioService.Field.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        // Fields are an EnumSet, so the key is canonical whatever order they were requested in
+        String key = "portfolio:" + selected.stream().map(Enum::name).collect(Collectors.joining(","));
+        return SnapshotResponses.of(snapshotService, key, () -> portfolioService.getPortfolio(selected), headers);
+    }
+}
@@ -1,10 +1,12 @@
 package com.portfolio.controller;
 
+import com.portfolio.domain.dto.BatchResult;
 import com.portfolio.domain.model.Project;
 import com.portfolio.service.ProjectService;
+import com.portfolio.service.SnapshotService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -14,43 +16,50 @@ import java.util.List;
 @RestController
 @RequestMapping("/api/projects")
 @RequiredArgsConstructor
-@Slf4j
 @CrossOrigin(origins = "http://localhost:3000")
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final SnapshotService snapshotService;
 
     @GetMapping
-    public ResponseEntity<List<Project>> getAllProjects() {
-        log.info("GET /api/projects - Fetching all projects");
-        List<Project> projects = projectService.getAllProjects();
+    public ResponseEntity<byte[]> getAllProjects(@RequestHeader HttpHeaders headers) {
+        return SnapshotResponses.of(snapshotService, "projects", projectService::getAllProjects, headers);
+    }
+
+    @GetMapping(params = "tags")
+    public ResponseEntity<List<Project>> getProjectsByTags(
+            @RequestParam List<String> tags,
+            @RequestParam(defaultValue = "any") String match,
+            @RequestParam(defaultValue = "false") boolean prefix) {
+        List<Project> projects = projectService.getProjectsByTags(tags, "all".equalsIgnoreCase(match), prefix);
         return ResponseEntity.ok(projects);
     }
 
     @GetMapping("/featured")
-    public ResponseEntity<List<Project>> getFeaturedProjects() {
-        log.info("GET /api/projects/featured - Fetching featured projects");
-        List<Project> projects = projectService.getFeaturedProjects();
-        return ResponseEntity.ok(projects);
+    public ResponseEntity<byte[]> getFeaturedProjects(@RequestHeader HttpHeaders headers) {
+        return SnapshotResponses.of(snapshotService, "projects:featured",
+                projectService::getFeaturedProjects, headers);
     }
 
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<Project>> getProjectsByCategory(@PathVariable Project.ProjectCategory category) {
-        log.info("GET /api/projects/category/{} - Fetching projects by category", category);
-        List<Project> projects = projectService.getProjectsByCategory(category);
-        return ResponseEntity.ok(projects);
+    public ResponseEntity<byte[]> getProjectsByCategory(
+            @PathVariable Project.ProjectCategory category,
+            @RequestHeader HttpHeaders headers) {
+        return SnapshotResponses.of(snapshotService, "projects:category:" + category,
+                () -> projectService.getProjectsByCategory(category), headers);
     }
 
     @GetMapping("/tag/{tag}")
-    public ResponseEntity<List<Project>> getProjectsByTag(@PathVariable String tag) {
-        log.info("GET /api/projects/tag/{} - Fetching projects by tag", tag);
-        List<Project> projects = projectService.getProjectsByTag(tag);
+    public ResponseEntity<List<Project>> getProjectsByTag(
+            @PathVariable String tag,
+            @RequestParam(defaultValue = "false") boolean prefix) {
+        List<Project> projects = projectService.getProjectsByTag(tag, prefix);
         return ResponseEntity.ok(projects);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Project> getProjectById(@PathVariable Long id) {
-        log.info("GET /api/projects/{} - Fetching project by id", id);
         return projectService.getProjectById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -58,14 +67,12 @@ public class ProjectController {
 
     @PostMapping
     public ResponseEntity<Project> createProject(@Valid @RequestBody Project project) {
-        log.info("POST /api/projects - Creating new project");
         Project createdProject = projectService.createProject(project);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdProject);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<Project> updateProject(@PathVariable Long id, @Valid @RequestBody Project project) {
-        log.info("PUT /api/projects/{} - Updating project", id);
         try {
             Project updatedProject = projectService.updateProject(id, project);
             return ResponseEntity.ok(updatedProject);
@@ -76,8 +83,27 @@ public class ProjectController {
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProject(@PathVariable Long id) {
-        log.info("DELETE /api/projects/{} - Deleting project", id);
         projectService.deleteProject(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResult> createProjects(@RequestBody List<Project> projects) {
+        return BatchResponses.of(projectService.createProjects(projects));
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<BatchResult> updateProjects(@RequestBody List<Project> projects) {
+        return BatchResponses.of(projectService.updateProjects(projects));
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<BatchResult> deleteProjects(@RequestParam List<Long> ids) {
+        return BatchResponses.of(projectService.deleteProjects(ids));
+    }
+
+    @PutMapping("/batch/order")
+    public ResponseEntity<BatchResult> reorderProjects(@RequestBody List<Long> ids) {
+        return BatchResponses.of(projectService.reorderProjects(ids));
+    }
 }
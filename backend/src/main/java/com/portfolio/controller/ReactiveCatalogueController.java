@@ -0,0 +1,65 @@
+package com.portfolio.controller;
+
+import com.portfolio.domain.dto.CodeRepositorySummary;
+import com.portfolio.domain.model.Project;
+import com.portfolio.domain.model.Skill;
+import com.portfolio.service.ReactiveCatalogueService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+/**
+ * Non-blocking mirror of the catalogue listings. {@code application/x-ndjson}
+ * and {@code text/event-stream} write each item as soon as its rows have been
+ * read; {@code application/json} collects the stream into the usual array.
+ */
+@RestController
+@RequestMapping(value = "/api/reactive", produces = {
+        MediaType.APPLICATION_NDJSON_VALUE,
+        MediaType.TEXT_EVENT_STREAM_VALUE,
+        MediaType.APPLICATION_JSON_VALUE
+})
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+@ConditionalOnProperty(name = "portfolio.reactive.enabled", havingValue = "true", matchIfMissing = true)
+public class ReactiveCatalogueController {
+
+    private final ReactiveCatalogueService reactiveCatalogueService;
+
+    @GetMapping("/projects")
+    public Flux<Project> getAllProjects() {
+        return reactiveCatalogueService.getAllProjects();
+    }
+
+    @GetMapping("/projects/featured")
+    public Flux<Project> getFeaturedProjects() {
+        return reactiveCatalogueService.getFeaturedProjects();
+    }
+
+    @GetMapping("/projects/category/{category}")
+    public Flux<Project> getProjectsByCategory(@PathVariable Project.ProjectCategory category) {
+        return reactiveCatalogueService.getProjectsByCategory(category);
+    }
+
+    @GetMapping("/skills")
+    public Flux<Skill> getAllSkills() {
+        return reactiveCatalogueService.getAllSkills();
+    }
+
+    @GetMapping("/skills/category/{category}")
+    public Flux<Skill> getSkillsByCategory(@PathVariable Skill.SkillCategory category) {
+        return reactiveCatalogueService.getSkillsByCategory(category);
+    }
+
+    @GetMapping("/repositories")
+    public Flux<CodeRepositorySummary> getAllRepositories() {
+        return reactiveCatalogueService.getAllRepositories();
+    }
+
+    @GetMapping("/repositories/project/{projectId}")
+    public Flux<CodeRepositorySummary> getRepositoriesByProjectId(@PathVariable Long projectId) {
+        return reactiveCatalogueService.getRepositoriesByProjectId(projectId);
+    }
+}
@@ -0,0 +1,30 @@
+package com.portfolio.controller;
+
+import com.portfolio.domain.dto.SearchResult;
+import com.portfolio.service.SearchIndexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3000")
+public class SearchController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final SearchIndexService searchIndexService;
+
+    @GetMapping
+    public ResponseEntity<List<SearchResult>> search(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (query.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(searchIndexService.search(query, Math.max(1, Math.min(limit, MAX_LIMIT))));
+    }
+}
@@ -1,42 +1,43 @@
 package com.portfolio.controller;
 
+import com.portfolio.domain.dto.BatchResult;
 import com.portfolio.domain.model.Skill;
 import com.portfolio.service.SkillService;
+import com.portfolio.service.SnapshotService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+
 @RestController
 @RequestMapping("/api/skills")
 @RequiredArgsConstructor
-@Slf4j
 @CrossOrigin(origins = "http://localhost:3000")
 public class SkillController {
 
     private final SkillService skillService;
+    private final SnapshotService snapshotService;
 
     @GetMapping
-    public ResponseEntity<List<Skill>> getAllSkills() {
-        log.info("GET /api/skills - Fetching all skills");
-        List<Skill> skills = skillService.getAllSkills();
-        return ResponseEntity.ok(skills);
+    public ResponseEntity<byte[]> getAllSkills(@RequestHeader HttpHeaders headers) {
+        return SnapshotResponses.of(snapshotService, "skills", skillService::getAllSkills, headers);
     }
 
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<Skill>> getSkillsByCategory(@PathVariable Skill.SkillCategory category) {
-        log.info("GET /api/skills/category/{} - Fetching skills by category", category);
-        List<Skill> skills = skillService.getSkillsByCategory(category);
-        return ResponseEntity.ok(skills);
+    public ResponseEntity<byte[]> getSkillsByCategory(
+            @PathVariable Skill.SkillCategory category,
+            @RequestHeader HttpHeaders headers) {
+        return SnapshotResponses.of(snapshotService, "skills:category:" + category,
+                () -> skillService.getSkillsByCategory(category), headers);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Skill> getSkillById(@PathVariable Long id) {
-        log.info("GET /api/skills/{} - Fetching skill by id", id);
         return skillService.getSkillById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -44,14 +45,12 @@ public class SkillController {
 
     @PostMapping
     public ResponseEntity<Skill> createSkill(@Valid @RequestBody Skill skill) {
-        log.info("POST /api/skills - Creating new skill");
         Skill createdSkill = skillService.createSkill(skill);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdSkill);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<Skill> updateSkill(@PathVariable Long id, @Valid @RequestBody Skill skill) {
-        log.info("PUT /api/skills/{} - Updating skill", id);
         try {
             Skill updatedSkill = skillService.updateSkill(id, skill);
             return ResponseEntity.ok(updatedSkill);
@@ -62,8 +61,27 @@ public class SkillController {
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteSkill(@PathVariable Long id) {
-        log.info("DELETE /api/skills/{} - Deleting skill", id);
         skillService.deleteSkill(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResult> createSkills(@RequestBody List<Skill> skills) {
+        return BatchResponses.of(skillService.createSkills(skills));
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<BatchResult> updateSkills(@RequestBody List<Skill> skills) {
+        return BatchResponses.of(skillService.updateSkills(skills));
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<BatchResult> deleteSkills(@RequestParam List<Long> ids) {
+        return BatchResponses.of(skillService.deleteSkills(ids));
+    }
+
+    @PutMapping("/batch/order")
+    public ResponseEntity<BatchResult> reorderSkills(@RequestBody List<Long> ids) {
+        return BatchResponses.of(skillService.reorderSkills(ids));
+    }
 }
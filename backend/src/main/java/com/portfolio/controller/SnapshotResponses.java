@@ -0,0 +1,70 @@
+package com.portfolio.controller;
+
+import com.portfolio.service.Snapshot;
+import com.portfolio.service.SnapshotFormat;
+import com.portfolio.service.SnapshotService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+final class SnapshotResponses {
+
+    private SnapshotResponses() {
+    }
+
+    /**
+     * Serves the snapshot for {@code key} in the format picked from the Accept
+     * header, gzip-compressed when the client accepts it. Spring MVC compares
+     * the ETag against If-None-Match for GET requests and turns a match into a
+     * 304 without writing the body.
+     */
+    static ResponseEntity<byte[]> of(SnapshotService snapshotService, String key, Supplier<?> loader,
+                                     HttpHeaders requestHeaders) {
+        SnapshotFormat format = format(requestHeaders);
+        Snapshot snapshot = snapshotService.getSnapshot(key, format, loader);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(requestHeaders.get(HttpHeaders.ACCEPT_ENCODING))) {
+            return response
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .eTag(snapshot.getGzipEtag())
+                    .body(snapshot.getGzipBody());
+        }
+        return response.eTag(snapshot.getEtag()).body(snapshot.getBody());
+    }
+
+    /**
+     * A malformed Accept header, or one with more entries than Spring will sort,
+     * falls back to JSON rather than failing the request.
+     */
+    private static SnapshotFormat format(HttpHeaders requestHeaders) {
+        try {
+            return SnapshotFormat.fromAccept(new ArrayList<>(requestHeaders.getAccept()));
+        } catch (IllegalArgumentException e) {
+            return SnapshotFormat.JSON;
+        }
+    }
+
+    static boolean acceptsGzip(List<String> acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String header : acceptEncoding) {
+            for (String coding : header.split(",")) {
+                String[] parts = coding.trim().toLowerCase(Locale.ROOT).split(";");
+                if (parts[0].trim().equals("gzip")) {
+                    return parts.length == 1 || !parts[1].replace(" ", "").equals("q=0");
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,86 @@
+package com.portfolio.controller;
+
+import com.portfolio.domain.dto.ImportResult;
+import com.portfolio.service.PortfolioTransferService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+public class TransferController {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final PortfolioTransferService transferService;
+
+    @GetMapping("/export")
+    public void export(@RequestParam(required = false) String from,
+                       @RequestHeader HttpHeaders headers,
+                       HttpServletResponse response) throws IOException {
+        PortfolioTransferService.Position position;
+        try {
+            position = PortfolioTransferService.Position.parse(from);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+
+        boolean gzip = SnapshotResponses.acceptsGzip(headers.get(HttpHeaders.ACCEPT_ENCODING));
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(gzip ? "portfolio.ndjson.gz" : "portfolio.ndjson").build().toString());
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        OutputStream body = response.getOutputStream();
+        try (OutputStream output = gzip ? new GZIPOutputStream(body, BUFFER_SIZE, true) : body) {
+            transferService.export(output, position);
+        } catch (IOException e) {
+            // The client went away mid-stream; it resumes with ?from= the last line it received
+            log.info("Export aborted: {}", e.getMessage());
+        }
+    }
+
+    @PostMapping("/import")
+    public ResponseEntity<ImportResult> importRecords(@RequestParam(defaultValue = "0") long skip,
+                                                      HttpServletRequest request) throws IOException {
+        if (skip < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        InputStream body = request.getInputStream();
+        String encoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+        InputStream input;
+        try {
+            input = "gzip".equalsIgnoreCase(encoding) ? new GZIPInputStream(body, BUFFER_SIZE) : body;
+        } catch (IOException e) {
+            // Not even the gzip header could be read, so nothing past skip was written
+            ImportResult result = new ImportResult();
+            result.setCommitted(skip);
+            result.fail("Body is not valid gzip");
+            return ResponseEntity.badRequest().body(result);
+        }
+        try (input) {
+            ImportResult result = transferService.importRecords(input, skip);
+            return result.isComplete() ? ResponseEntity.ok(result) : ResponseEntity.badRequest().body(result);
+        }
+    }
+}
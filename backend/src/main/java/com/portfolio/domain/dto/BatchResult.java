@@ -0,0 +1,31 @@
+package com.portfolio.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Per-item results of a batch request, in request order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResult {
+
+    private int succeeded;
+
+    private int failed;
+
+    private List<BatchItemResult> items;
+
+    public static BatchResult of(List<BatchItemResult> items) {
+        int succeeded = (int) items.stream().filter(BatchItemResult::isSucceeded).count();
+        return new BatchResult(succeeded, items.size() - succeeded, items);
+    }
+
+    public boolean hasInvalidItems() {
+        return items.stream().anyMatch(item -> item.getStatus() == BatchItemResult.Status.INVALID);
+    }
+}
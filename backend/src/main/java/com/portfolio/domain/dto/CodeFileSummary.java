@@ -0,0 +1,29 @@
+package com.portfolio.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A code file without its content; the body is fetched per file on demand,
+ * by path or from {@code /api/blobs/{contentHash}}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CodeFileSummary {
+
+    @JsonIgnore
+    private Long repositoryId;
+
+    private String fileName;
+
+    private String filePath;
+
+    private String language;
+
+    private Integer lines;
+
+    private String contentHash;
+}
@@ -0,0 +1,46 @@
+package com.portfolio.domain.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Listing view of a code repository: metadata and file tree, no file contents.
+ */
+@Data
+@NoArgsConstructor
+public class CodeRepositorySummary {
+
+    private Long id;
+
+    private String name;
+
+    private String description;
+
+    private Long projectId;
+
+    private String githubUrl;
+
+    private Integer displayOrder;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private List<CodeFileSummary> files = new ArrayList<>();
+
+    public CodeRepositorySummary(Long id, String name, String description, Long projectId, String githubUrl,
+                                 Integer displayOrder, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.projectId = projectId;
+        this.githubUrl = githubUrl;
+        this.displayOrder = displayOrder;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
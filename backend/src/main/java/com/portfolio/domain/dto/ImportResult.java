@@ -0,0 +1,47 @@
+package com.portfolio.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of an NDJSON import. {@code committed} is the number of lines whose
+ * effect is durable; re-sending the same body with {@code skip=committed}
+ * resumes an interrupted import without writing anything twice.
+ * {@code complete} is false when the import stopped early: at a malformed
+ * line, an unreadable body, or a chunk that could not be written, whose
+ * records are counted in {@code failed}.
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class ImportResult {
+
+    private static final int MAX_ERRORS = 20;
+
+    private long committed;
+
+    private boolean complete = true;
+
+    private Map<String, Long> imported = new LinkedHashMap<>();
+
+    private long failed;
+
+    private List<String> errors = new ArrayList<>();
+
+    public void fail(String error) {
+        complete = false;
+        addError(error);
+    }
+
+    public void addError(String error) {
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(error);
+        }
+    }
+}
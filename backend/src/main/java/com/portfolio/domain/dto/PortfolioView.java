@@ -0,0 +1,29 @@
+package com.portfolio.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.portfolio.domain.model.Project;
+import com.portfolio.domain.model.Skill;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything a page needs in one response. Each project appears once in
+ * {@code projects}; {@code featured} lists the ids of the featured ones in
+ * display order. Sections that were not requested are omitted.
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PortfolioView {
+
+    private List<Project> projects;
+
+    private List<Long> featured;
+
+    private Map<Skill.SkillCategory, List<Skill>> skills;
+
+    private List<CodeRepositorySummary> repositories;
+}
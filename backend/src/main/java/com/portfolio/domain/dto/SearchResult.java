@@ -0,0 +1,31 @@
+package com.portfolio.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A ranked search hit. {@code snippet} is HTML-escaped text with matched terms
+ * wrapped in {@code <mark>}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SearchResult {
+
+    private String type;
+
+    private Long id;
+
+    private Long repositoryId;
+
+    private String filePath;
+
+    private String title;
+
+    private String snippet;
+
+    private double score;
+}
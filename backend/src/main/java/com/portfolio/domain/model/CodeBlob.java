@@ -0,0 +1,38 @@
+package com.portfolio.domain.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable, gzip-compressed file body addressed by the SHA-256 of its
+ * uncompressed UTF-8 bytes. Identical contents share one row.
+ */
+@Entity
+@Table(name = "code_blobs")
+@Data
+@NoArgsConstructor
+public class CodeBlob implements CompressedContent {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(nullable = false, length = 64 * 1024 * 1024)
+    @ToString.Exclude
+    private byte[] data;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(name = "compressed_size", nullable = false)
+    private Long compressedSize;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,47 @@
+package com.portfolio.domain.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Syntax-highlighted HTML for one blob in one language, gzip-compressed.
+ * The hash is derived from the renderer version, language and content hash,
+ * so a new renderer version never serves stale markup.
+ */
+@Entity
+@Table(name = "code_renders", indexes = {
+        @Index(name = "idx_code_renders_content_hash", columnList = "content_hash")
+})
+@Data
+@NoArgsConstructor
+public class CodeRender implements CompressedContent {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private String language;
+
+    @Column(nullable = false, length = 64 * 1024 * 1024)
+    @ToString.Exclude
+    private byte[] data;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(name = "compressed_size", nullable = false)
+    private Long compressedSize;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -1,18 +1,34 @@
 package com.portfolio.domain.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 
 @Entity
-@Table(name = "code_repositories")
+@Table(name = "code_repositories", indexes = {
+        @Index(name = "idx_code_repositories_display_order", columnList = "display_order"),
+        @Index(name = "idx_code_repositories_project_display_order", columnList = "project_id, display_order")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 public class CodeRepository {
     
@@ -32,8 +48,9 @@ public class CodeRepository {
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private Project project;
     
-    @ElementCollection
-    @CollectionTable(name = "repository_files", joinColumns = @JoinColumn(name = "repository_id"))
+    @OneToMany(mappedBy = "repository", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("filePath ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<CodeFile> files = new ArrayList<>();
     
     @Column(name = "github_url")
@@ -50,21 +67,73 @@ public class CodeRepository {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
-    @Embeddable
+    public void addFile(CodeFile file) {
+        file.setRepository(this);
+        files.add(file);
+    }
+    
+    /**
+     * Paths are unique per repository in the database too; checking here turns
+     * a duplicate in a request into a 400 instead of a constraint violation.
+     */
+    @AssertTrue(message = "File paths must be unique within a repository")
+    @JsonIgnore
+    public boolean isFilePathsUnique() {
+        return files == null || files.stream().map(CodeFile::getFilePath).distinct().count() == files.size();
+    }
+    
+    /**
+     * A file within a repository, identified by its path. The body lives in the
+     * blob store under {@code contentHash}; {@code content} is only filled in
+     * when a caller asks for it and is never persisted with the file row.
+     */
+    @Entity(name = "CodeFile")
+    @Table(name = "repository_files", uniqueConstraints = @UniqueConstraint(
+            name = "uk_repository_files_repository_path", columnNames = {"repository_id", "file_path"}),
+            indexes = @Index(name = "idx_repository_files_content_hash", columnList = "content_hash"))
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "com.portfolio.domain.model.CodeRepository.CodeFile")
+    @DynamicUpdate
     @Data
     public static class CodeFile {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        @JsonIgnore
+        private Long id;
+        
+        @ManyToOne(fetch = FetchType.LAZY, optional = false)
+        @JoinColumn(name = "repository_id", nullable = false)
+        @JsonIgnore
+        @ToString.Exclude
+        @EqualsAndHashCode.Exclude
+        private CodeRepository repository;
+        
         @Column(nullable = false)
         private String fileName;
         
         @Column(nullable = false)
         private String filePath;
         
-        @Column(columnDefinition = "TEXT")
+        @Transient
         private String content;
         
+        @Column(name = "content_hash", length = 64)
+        private String contentHash;
+        
         @Column(nullable = false)
         private String language; // java, python, javascript, etc.
         
         private Integer lines;
+        
+        public static String hashContent(String content) {
+            if (content == null) {
+                return null;
+            }
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+                return HexFormat.of().formatHex(digest);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
     }
 }
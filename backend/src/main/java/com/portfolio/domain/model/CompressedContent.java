@@ -0,0 +1,15 @@
+package com.portfolio.domain.model;
+
+/**
+ * A stored, gzip-compressed body addressed by a hash.
+ */
+public interface CompressedContent {
+
+    String getHash();
+
+    byte[] getData();
+
+    Long getSize();
+
+    Long getCompressedSize();
+}
@@ -1,11 +1,15 @@
 package com.portfolio.domain.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -14,7 +18,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_display_order", columnList = "display_order"),
+        @Index(name = "idx_projects_featured_display_order", columnList = "is_featured, display_order"),
+        @Index(name = "idx_projects_category_display_order", columnList = "category, display_order")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -38,8 +48,10 @@ public class Project {
     private ProjectCategory category;
 
     @ElementCollection
-    @CollectionTable(name = "project_tags", joinColumns = @JoinColumn(name = "project_id"))
+    @CollectionTable(name = "project_tags", joinColumns = @JoinColumn(name = "project_id"),
+            indexes = @Index(name = "idx_project_tags_project_id", columnList = "project_id"))
     @Column(name = "tag")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<String> tags = new ArrayList<>();
 
     @Column(name = "github_url")
@@ -63,6 +75,12 @@ public class Project {
     @Column(name = "display_order")
     private Integer displayOrder = 0;
 
+    // Only rows generated by portfolio.seed.synthetic-rows; never exposed
+    @JsonIgnore
+    @ColumnDefault("false")
+    @Column(name = "is_synthetic", nullable = false)
+    private Boolean isSynthetic = false;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
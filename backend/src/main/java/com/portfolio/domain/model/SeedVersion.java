@@ -0,0 +1,29 @@
+package com.portfolio.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records which version of a seed dataset was last applied, identified by the
+ * checksum of its contents.
+ */
+@Entity
+@Table(name = "seed_versions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeedVersion {
+
+    @Id
+    private String name;
+
+    @Column(nullable = false, length = 64)
+    private String checksum;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -1,5 +1,6 @@
 package com.portfolio.domain.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -8,13 +9,21 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "skills")
+@Table(name = "skills", indexes = {
+        @Index(name = "idx_skills_display_order", columnList = "display_order"),
+        @Index(name = "idx_skills_category_display_order", columnList = "category, display_order")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -42,6 +51,12 @@ public class Skill {
     @Column(name = "display_order")
     private Integer displayOrder = 0;
 
+    // Only rows generated by portfolio.seed.synthetic-rows; never exposed
+    @JsonIgnore
+    @ColumnDefault("false")
+    @Column(name = "is_synthetic", nullable = false)
+    private Boolean isSynthetic = false;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
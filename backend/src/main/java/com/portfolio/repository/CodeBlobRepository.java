@@ -0,0 +1,24 @@
+package com.portfolio.repository;
+
+import com.portfolio.domain.model.CodeBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CodeBlobRepository extends JpaRepository<CodeBlob, String> {
+    
+    // Sorted so that two collections locking overlapping sets cannot deadlock
+    @Query(value = "SELECT hash FROM code_blobs WHERE hash IN (:hashes) ORDER BY hash FOR UPDATE", nativeQuery = true)
+    List<String> lockAllById(@Param("hashes") Collection<String> hashes);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM CodeBlob b WHERE b.hash IN :hashes " +
+           "AND NOT EXISTS (SELECT 1 FROM CodeFile f WHERE f.contentHash = b.hash)")
+    int deleteUnreferenced(@Param("hashes") Collection<String> hashes);
+}
@@ -0,0 +1,24 @@
+package com.portfolio.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Resolves a single file's content hash with plain JDBC so its body can be
+ * served from the blob store without loading the repository or sibling files.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CodeFileContentRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<String> findContentHash(Long repositoryId, String filePath) {
+        return jdbcTemplate.queryForList(
+                "SELECT content_hash FROM repository_files WHERE repository_id = ? AND file_path = ?",
+                String.class, repositoryId, filePath).stream().findFirst();
+    }
+}
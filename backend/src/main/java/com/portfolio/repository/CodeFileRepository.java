@@ -0,0 +1,13 @@
+package com.portfolio.repository;
+
+import com.portfolio.domain.model.CodeRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CodeFileRepository extends JpaRepository<CodeRepository.CodeFile, Long> {
+    
+    Optional<CodeRepository.CodeFile> findByRepositoryIdAndFilePath(Long repositoryId, String filePath);
+}
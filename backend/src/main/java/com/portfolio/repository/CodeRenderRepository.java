@@ -0,0 +1,20 @@
+package com.portfolio.repository;
+
+import com.portfolio.domain.model.CodeRender;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface CodeRenderRepository extends JpaRepository<CodeRender, String> {
+    
+    // Renders are keyed by canonical language, so they are collected with their blob, not per file language
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM CodeRender r WHERE r.contentHash IN :hashes AND NOT EXISTS " +
+           "(SELECT 1 FROM CodeFile f WHERE f.contentHash = r.contentHash)")
+    int deleteUnreferenced(@Param("hashes") Collection<String> hashes);
+}
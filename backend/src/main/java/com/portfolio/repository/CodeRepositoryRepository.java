@@ -1,15 +1,68 @@
 package com.portfolio.repository;
 
+import com.portfolio.domain.dto.CodeFileSummary;
+import com.portfolio.domain.dto.CodeRepositorySummary;
 import com.portfolio.domain.model.CodeRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CodeRepositoryRepository extends JpaRepository<CodeRepository, Long> {
     
+    // Repositories are cached and serialized outside the loading session, so
+    // their files and project are fetched up front.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @EntityGraph(attributePaths = {"project", "files"})
     List<CodeRepository> findAllByOrderByDisplayOrderAsc();
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @EntityGraph(attributePaths = {"project", "files"})
     List<CodeRepository> findByProjectIdOrderByDisplayOrderAsc(Long projectId);
+    
+    @Override
+    @EntityGraph(attributePaths = {"project", "files"})
+    Optional<CodeRepository> findById(Long id);
+    
+    @EntityGraph(attributePaths = {"project", "files"})
+    List<CodeRepository> findByIdIn(Collection<Long> ids);
+    
+    @EntityGraph(attributePaths = {"project", "files"})
+    List<CodeRepository> findByNameIn(Collection<String> names);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.portfolio.domain.dto.CodeRepositorySummary(r.id, r.name, r.description, p.id, " +
+           "r.githubUrl, r.displayOrder, r.createdAt, r.updatedAt) " +
+           "FROM CodeRepository r LEFT JOIN r.project p ORDER BY r.displayOrder ASC")
+    List<CodeRepositorySummary> findAllSummaries();
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.portfolio.domain.dto.CodeRepositorySummary(r.id, r.name, r.description, p.id, " +
+           "r.githubUrl, r.displayOrder, r.createdAt, r.updatedAt) " +
+           "FROM CodeRepository r JOIN r.project p WHERE p.id = :projectId ORDER BY r.displayOrder ASC")
+    List<CodeRepositorySummary> findSummariesByProjectId(@Param("projectId") Long projectId);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.portfolio.domain.dto.CodeFileSummary(r.id, f.fileName, f.filePath, f.language, f.lines, f.contentHash) " +
+           "FROM CodeRepository r JOIN r.files f WHERE r.id IN :repositoryIds ORDER BY f.filePath ASC")
+    List<CodeFileSummary> findFileSummaries(@Param("repositoryIds") Collection<Long> repositoryIds);
+    
+    // Export cursor: rows are fetched in chunks and never cached
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT r FROM CodeRepository r LEFT JOIN FETCH r.project WHERE r.id > :afterId ORDER BY r.id ASC")
+    Stream<CodeRepository> streamAfter(@Param("afterId") long afterId);
 }
@@ -1,15 +1,54 @@
 package com.portfolio.repository;
 
 import com.portfolio.domain.model.ContactMessage;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ContactMessageRepository extends JpaRepository<ContactMessage, Long> {
     
-    List<ContactMessage> findAllByOrderByCreatedAtDesc();
+    // Keyset pagination on (created_at, id): each page continues strictly after
+    // the last row of the previous one, so no offset scan and no full sort.
+    // The redundant createdAt <= bound lets the planner seek the index instead
+    // of scanning it from the newest row.
+    @Query("SELECT m FROM ContactMessage m ORDER BY m.createdAt DESC, m.id DESC")
+    List<ContactMessage> findFirstPage(Pageable pageable);
     
-    List<ContactMessage> findByIsReadFalseOrderByCreatedAtDesc();
+    @Query("SELECT m FROM ContactMessage m " +
+           "WHERE m.createdAt <= :createdAt AND (m.createdAt < :createdAt OR m.id < :id) " +
+           "ORDER BY m.createdAt DESC, m.id DESC")
+    List<ContactMessage> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+    
+    @Query("SELECT m FROM ContactMessage m WHERE m.isRead = false ORDER BY m.createdAt DESC, m.id DESC")
+    List<ContactMessage> findFirstUnreadPage(Pageable pageable);
+    
+    @Query("SELECT m FROM ContactMessage m " +
+           "WHERE m.isRead = false " +
+           "AND m.createdAt <= :createdAt AND (m.createdAt < :createdAt OR m.id < :id) " +
+           "ORDER BY m.createdAt DESC, m.id DESC")
+    List<ContactMessage> findUnreadPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+    
+    long countByIsReadFalse();
+    
+    // Export cursor: rows are fetched in chunks
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM ContactMessage m WHERE m.id > :afterId ORDER BY m.id ASC")
+    Stream<ContactMessage> streamAfter(@Param("afterId") long afterId);
 }
@@ -1,19 +1,53 @@
 package com.portfolio.repository;
 
 import com.portfolio.domain.model.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     
+    // Listings are serialized with their tags, so fetch them in the same query
+    // instead of one lazy select per project.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @EntityGraph(attributePaths = "tags")
     List<Project> findAllByOrderByDisplayOrderAsc();
     
+    @Override
+    @EntityGraph(attributePaths = "tags")
+    Optional<Project> findById(Long id);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @EntityGraph(attributePaths = "tags")
     List<Project> findByIsFeaturedTrueOrderByDisplayOrderAsc();
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @EntityGraph(attributePaths = "tags")
     List<Project> findByCategoryOrderByDisplayOrderAsc(Project.ProjectCategory category);
     
-    List<Project> findByTagsContainingIgnoreCaseOrderByDisplayOrderAsc(String tag);
+    @EntityGraph(attributePaths = "tags")
+    List<Project> findByIdInOrderByDisplayOrderAsc(Collection<Long> ids);
+    
+    @EntityGraph(attributePaths = "tags")
+    List<Project> findByTitleIn(Collection<String> titles);
+    
+    // Export cursor: rows are fetched in chunks and never cached
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT p FROM Project p WHERE p.id > :afterId ORDER BY p.id ASC")
+    Stream<Project> streamAfter(@Param("afterId") long afterId);
 }
@@ -0,0 +1,79 @@
+package com.portfolio.repository;
+
+import com.portfolio.domain.dto.CodeFileSummary;
+import com.portfolio.domain.dto.CodeRepositorySummary;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Non-blocking counterpart of the {@link CodeRepositoryRepository} summary
+ * finders. Files are joined into the same query and grouped back into their
+ * repository as rows arrive; contents stay in the blob store.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "portfolio.reactive.enabled", havingValue = "true", matchIfMissing = true)
+public class ReactiveCodeRepositoryRepository {
+
+    private static final String SELECT_WITH_FILES =
+            "SELECT r.id, r.name, r.description, r.project_id, r.github_url, r.display_order, r.created_at, " +
+            "r.updated_at, f.file_name, f.file_path, f.language, f.lines, f.content_hash " +
+            "FROM code_repositories r LEFT JOIN repository_files f ON f.repository_id = r.id ";
+
+    private static final String ORDER = " ORDER BY r.display_order ASC, r.id ASC, f.file_path ASC";
+
+    private final DatabaseClient reactiveDatabaseClient;
+
+    public Flux<CodeRepositorySummary> findAllSummaries() {
+        return summaries(reactiveDatabaseClient.sql(SELECT_WITH_FILES + ORDER));
+    }
+
+    public Flux<CodeRepositorySummary> findSummariesByProjectId(Long projectId) {
+        return summaries(reactiveDatabaseClient.sql(SELECT_WITH_FILES + "WHERE r.project_id = :projectId" + ORDER)
+                .bind("projectId", projectId));
+    }
+
+    private Flux<CodeRepositorySummary> summaries(DatabaseClient.GenericExecuteSpec spec) {
+        return spec.map(ReactiveCodeRepositoryRepository::mapRow)
+                .all()
+                .bufferUntilChanged(row -> row.repository().getId())
+                .map(ReactiveCodeRepositoryRepository::withFiles);
+    }
+
+    private static SummaryRow mapRow(Readable row) {
+        Long id = row.get("id", Long.class);
+        CodeRepositorySummary repository = new CodeRepositorySummary(id,
+                row.get("name", String.class),
+                row.get("description", String.class),
+                row.get("project_id", Long.class),
+                row.get("github_url", String.class),
+                row.get("display_order", Integer.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class));
+        String filePath = row.get("file_path", String.class);
+        CodeFileSummary file = filePath == null ? null : new CodeFileSummary(id,
+                row.get("file_name", String.class),
+                filePath,
+                row.get("language", String.class),
+                row.get("lines", Integer.class),
+                row.get("content_hash", String.class));
+        return new SummaryRow(repository, file);
+    }
+
+    private static CodeRepositorySummary withFiles(List<SummaryRow> rows) {
+        CodeRepositorySummary repository = rows.get(0).repository();
+        repository.setFiles(rows.stream().map(SummaryRow::file).filter(Objects::nonNull).toList());
+        return repository;
+    }
+
+    private record SummaryRow(CodeRepositorySummary repository, CodeFileSummary file) {
+    }
+}
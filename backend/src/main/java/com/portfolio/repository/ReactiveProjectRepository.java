@@ -0,0 +1,83 @@
+package com.portfolio.repository;
+
+import com.portfolio.domain.model.Project;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Non-blocking counterpart of the {@link ProjectRepository} listing finders.
+ * Tags are joined into the same query and folded back into their project as
+ * rows arrive, so a listing is streamed in one round trip.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "portfolio.reactive.enabled", havingValue = "true", matchIfMissing = true)
+public class ReactiveProjectRepository {
+
+    private static final String SELECT_WITH_TAGS =
+            "SELECT p.id, p.title, p.description, p.category, p.github_url, p.live_url, p.icon_name, " +
+            "p.gradient_from, p.gradient_to, p.is_featured, p.display_order, p.created_at, p.updated_at, t.tag " +
+            "FROM projects p LEFT JOIN project_tags t ON t.project_id = p.id ";
+
+    private static final String ORDER = " ORDER BY p.display_order ASC, p.id ASC";
+
+    private final DatabaseClient reactiveDatabaseClient;
+
+    public Flux<Project> findAllByOrderByDisplayOrderAsc() {
+        return query(SELECT_WITH_TAGS + ORDER, null);
+    }
+
+    public Flux<Project> findByIsFeaturedTrueOrderByDisplayOrderAsc() {
+        return query(SELECT_WITH_TAGS + "WHERE p.is_featured = TRUE" + ORDER, null);
+    }
+
+    public Flux<Project> findByCategoryOrderByDisplayOrderAsc(Project.ProjectCategory category) {
+        return query(SELECT_WITH_TAGS + "WHERE p.category = :category" + ORDER, category.name());
+    }
+
+    private Flux<Project> query(String sql, String category) {
+        DatabaseClient.GenericExecuteSpec spec = reactiveDatabaseClient.sql(sql);
+        if (category != null) {
+            spec = spec.bind("category", category);
+        }
+        return spec.map(ReactiveProjectRepository::mapRow)
+                .all()
+                .bufferUntilChanged(row -> row.project().getId())
+                .map(ReactiveProjectRepository::withTags);
+    }
+
+    private static ProjectRow mapRow(Readable row) {
+        Project project = new Project();
+        project.setId(row.get("id", Long.class));
+        project.setTitle(row.get("title", String.class));
+        project.setDescription(row.get("description", String.class));
+        project.setCategory(Project.ProjectCategory.valueOf(row.get("category", String.class)));
+        project.setGithubUrl(row.get("github_url", String.class));
+        project.setLiveUrl(row.get("live_url", String.class));
+        project.setIconName(row.get("icon_name", String.class));
+        project.setGradientFrom(row.get("gradient_from", String.class));
+        project.setGradientTo(row.get("gradient_to", String.class));
+        project.setIsFeatured(row.get("is_featured", Boolean.class));
+        project.setDisplayOrder(row.get("display_order", Integer.class));
+        project.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        project.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        return new ProjectRow(project, row.get("tag", String.class));
+    }
+
+    private static Project withTags(List<ProjectRow> rows) {
+        Project project = rows.get(0).project();
+        project.setTags(rows.stream().map(ProjectRow::tag).filter(Objects::nonNull).toList());
+        return project;
+    }
+
+    private record ProjectRow(Project project, String tag) {
+    }
+}
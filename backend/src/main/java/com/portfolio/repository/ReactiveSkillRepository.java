@@ -0,0 +1,52 @@
+package com.portfolio.repository;
+
+import com.portfolio.domain.model.Skill;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking counterpart of the {@link SkillRepository} listing finders.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "portfolio.reactive.enabled", havingValue = "true", matchIfMissing = true)
+public class ReactiveSkillRepository {
+
+    private static final String SELECT =
+            "SELECT id, name, category, level, display_order, created_at, updated_at FROM skills ";
+
+    private static final String ORDER = " ORDER BY display_order ASC, id ASC";
+
+    private final DatabaseClient reactiveDatabaseClient;
+
+    public Flux<Skill> findAllByOrderByDisplayOrderAsc() {
+        return reactiveDatabaseClient.sql(SELECT + ORDER)
+                .map(ReactiveSkillRepository::mapRow)
+                .all();
+    }
+
+    public Flux<Skill> findByCategoryOrderByDisplayOrderAsc(Skill.SkillCategory category) {
+        return reactiveDatabaseClient.sql(SELECT + "WHERE category = :category" + ORDER)
+                .bind("category", category.name())
+                .map(ReactiveSkillRepository::mapRow)
+                .all();
+    }
+
+    private static Skill mapRow(Readable row) {
+        Skill skill = new Skill();
+        skill.setId(row.get("id", Long.class));
+        skill.setName(row.get("name", String.class));
+        skill.setCategory(Skill.SkillCategory.valueOf(row.get("category", String.class)));
+        skill.setLevel(row.get("level", Integer.class));
+        skill.setDisplayOrder(row.get("display_order", Integer.class));
+        skill.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        skill.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        return skill;
+    }
+}
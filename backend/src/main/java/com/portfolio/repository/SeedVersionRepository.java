@@ -0,0 +1,9 @@
+package com.portfolio.repository;
+
+import com.portfolio.domain.model.SeedVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SeedVersionRepository extends JpaRepository<SeedVersion, String> {
+}
@@ -1,15 +1,35 @@
 package com.portfolio.repository;
 
 import com.portfolio.domain.model.Skill;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface SkillRepository extends JpaRepository<Skill, Long> {
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Skill> findAllByOrderByDisplayOrderAsc();
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Skill> findByCategoryOrderByDisplayOrderAsc(Skill.SkillCategory category);
+    
+    List<Skill> findByNameIn(Collection<String> names);
+    
+    // Export cursor: rows are fetched in chunks and never cached
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT s FROM Skill s WHERE s.id > :afterId ORDER BY s.id ASC")
+    Stream<Skill> streamAfter(@Param("afterId") long afterId);
 }
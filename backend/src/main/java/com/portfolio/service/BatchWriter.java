@@ -0,0 +1,227 @@
+package com.portfolio.service;
+
+import com.portfolio.domain.dto.BatchItemResult;
+import com.portfolio.domain.dto.BatchResult;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Shared mechanics of the batch endpoints. Every item is validated before
+ * anything is written; if one is invalid the batch is rejected as a whole.
+ * Valid batches are written in chunks, each in its own transaction, so a
+ * large import commits a few times instead of once per item and a failing
+ * chunk only rolls back its own items. Updates and deletes in a chunk are
+ * flushed as JDBC batches ({@code hibernate.jdbc.batch_size}). Each chunk
+ * clears the given caches from inside its transaction, so the clear is
+ * applied when that chunk commits rather than once the whole batch is done.
+ */
+@Component
+@Slf4j
+public class BatchWriter {
+
+    @FunctionalInterface
+    public interface ItemWriter<T> {
+        BatchItemResult write(int index, T item);
+    }
+
+    private static final int REORDER_CHUNK = 100;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public BatchWriter(TransactionTemplate transactionTemplate,
+                       Validator validator,
+                       ApplicationEventPublisher eventPublisher,
+                       CacheManager cacheManager,
+                       @Value("${portfolio.batch.chunk-size:100}") int chunkSize,
+                       @Value("${portfolio.batch.max-items:5000}") int maxItems) {
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    public <T> BatchResult write(List<T> items, CatalogueChangedEvent.Type changed, List<String> caches,
+                                 ItemWriter<T> writer) {
+        return write(items, null, changed, caches, writer);
+    }
+
+    /**
+     * Validates and writes {@code items}. When {@code idOf} is given, items
+     * without an id are invalid (updates). When {@code changed} is given, each
+     * chunk publishes one catalogue event carrying the ids it wrote or deleted,
+     * so listeners refresh exactly those entities. Every chunk clears
+     * {@code caches} when it commits.
+     */
+    public <T> BatchResult write(List<T> items, Function<T, Long> idOf, CatalogueChangedEvent.Type changed,
+                                 List<String> caches, ItemWriter<T> writer) {
+        checkSize(items);
+        List<BatchItemResult> invalid = validate(items, idOf);
+        if (!invalid.isEmpty()) {
+            return BatchResult.of(invalid);
+        }
+
+        List<BatchItemResult> results = new ArrayList<>(items.size());
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            int chunkStart = from;
+            int chunkEnd = Math.min(items.size(), from + chunkSize);
+            try {
+                results.addAll(transactionTemplate.execute(status -> {
+                    List<BatchItemResult> chunk = new ArrayList<>(chunkEnd - chunkStart);
+                    for (int i = chunkStart; i < chunkEnd; i++) {
+                        chunk.add(writer.write(i, items.get(i)));
+                    }
+                    clear(caches);
+                    if (changed != null) {
+                        publish(changed, chunk.stream()
+                                .filter(BatchItemResult::isSucceeded)
+                                .map(BatchItemResult::getId)
+                                .toList());
+                    }
+                    return chunk;
+                }));
+            } catch (RuntimeException e) {
+                log.warn("Batch chunk {}-{} rolled back: {}", chunkStart, chunkEnd - 1, e.getMessage());
+                for (int i = chunkStart; i < chunkEnd; i++) {
+                    results.add(new BatchItemResult(i, idOf == null ? null : idOf.apply(items.get(i)),
+                            BatchItemResult.Status.FAILED, List.of("Rolled back with its chunk: " + e.getMessage())));
+                }
+            }
+        }
+        return BatchResult.of(results);
+    }
+
+    /**
+     * Sets {@code displayOrder} of the given entities to their position in
+     * {@code ids}, {@value #REORDER_CHUNK} ids per UPDATE statement. Ids that
+     * do not exist are reported as {@code NOT_FOUND}; entities not listed keep
+     * their order. {@code caches} are cleared when the reorder commits.
+     */
+    public BatchResult reorder(Class<?> entityClass, CatalogueChangedEvent.Type changed, List<String> caches,
+                               List<Long> ids) {
+        checkSize(ids);
+        if (ids.isEmpty()) {
+            return BatchResult.of(List.of());
+        }
+        String entityName = entityManager.getMetamodel().entity(entityClass).getName();
+        String jpql = reorderStatement(entityName);
+        return transactionTemplate.execute(status -> {
+            Set<Long> existing = new HashSet<>(entityManager
+                    .createQuery("SELECT e.id FROM " + entityName + " e WHERE e.id IN :ids", Long.class)
+                    .setParameter("ids", ids)
+                    .getResultList());
+
+            LocalDateTime now = LocalDateTime.now();
+            for (int from = 0; from < ids.size(); from += REORDER_CHUNK) {
+                Query update = entityManager.createQuery(jpql).setParameter("now", now);
+                // The statement always has REORDER_CHUNK slots; unused ones get a null id, which matches nothing
+                for (int slot = 0; slot < REORDER_CHUNK; slot++) {
+                    int position = from + slot;
+                    update.setParameter("id" + slot, position < ids.size() ? ids.get(position) : null)
+                            .setParameter("order" + slot, position);
+                }
+                update.executeUpdate();
+            }
+            clear(caches);
+            publish(changed, List.copyOf(existing));
+
+            List<BatchItemResult> results = new ArrayList<>(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                results.add(BatchItemResult.of(i, ids.get(i), existing.contains(ids.get(i))
+                        ? BatchItemResult.Status.UPDATED : BatchItemResult.Status.NOT_FOUND));
+            }
+            return BatchResult.of(results);
+        });
+    }
+
+    /**
+     * One fixed statement per entity, whatever the number of ids, so reorders
+     * do not fill the query plan cache with a plan per list length.
+     */
+    private static String reorderStatement(String entityName) {
+        StringBuilder jpql = new StringBuilder("UPDATE ").append(entityName)
+                .append(" e SET e.updatedAt = :now, e.displayOrder = CASE e.id");
+        StringBuilder in = new StringBuilder();
+        for (int slot = 0; slot < REORDER_CHUNK; slot++) {
+            jpql.append(" WHEN :id").append(slot).append(" THEN :order").append(slot);
+            in.append(slot == 0 ? "" : ", ").append(":id").append(slot);
+        }
+        return jpql.append(" ELSE e.displayOrder END WHERE e.id IN (").append(in).append(")").toString();
+    }
+
+    /**
+     * Called inside the chunk's transaction: the transaction-aware cache
+     * manager defers the clear until that transaction commits.
+     */
+    private void clear(List<String> caches) {
+        for (String name : caches) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    private void publish(CatalogueChangedEvent.Type changed, List<Long> ids) {
+        if (!ids.isEmpty()) {
+            eventPublisher.publishEvent(CatalogueChangedEvent.of(changed, ids));
+        }
+    }
+
+    private <T> List<BatchItemResult> validate(List<T> items, Function<T, Long> idOf) {
+        List<BatchItemResult> invalid = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            List<String> errors = new ArrayList<>();
+            if (item == null) {
+                errors.add("Item is required");
+            } else {
+                if (idOf != null && idOf.apply(item) == null) {
+                    errors.add("id: Id is required");
+                }
+                for (ConstraintViolation<T> violation : validator.validate(item)) {
+                    errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+                }
+            }
+            if (!errors.isEmpty()) {
+                invalid.add(new BatchItemResult(i, item == null || idOf == null ? null : idOf.apply(item),
+                        BatchItemResult.Status.INVALID, errors));
+            }
+        }
+        return invalid;
+    }
+
+    private void checkSize(List<?> items) {
+        if (items.size() > maxItems) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "A batch holds at most " + maxItems + " items");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.portfolio.service;
+
+import lombok.Value;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published by the catalogue services whenever a project, skill or code
+ * repository is written. Listeners derive their state (snapshots, indexes)
+ * from the committed data, so they should observe it after commit.
+ */
+@Value
+public class CatalogueChangedEvent {
+
+    Type type;
+
+    /**
+     * Ids of the changed entities, written or deleted. Empty when an unknown
+     * set of rows changed, in which case listeners reload everything.
+     */
+    List<Long> ids;
+
+    public CatalogueChangedEvent(Type type, Long id) {
+        this(type, id == null ? List.of() : List.of(id));
+    }
+
+    private CatalogueChangedEvent(Type type, List<Long> ids) {
+        this.type = type;
+        this.ids = ids;
+    }
+
+    /** One event for several changed entities, such as a batch chunk. */
+    public static CatalogueChangedEvent of(Type type, Collection<Long> ids) {
+        return new CatalogueChangedEvent(type, List.copyOf(ids));
+    }
+
+    public boolean isBulk() {
+        return ids.isEmpty();
+    }
+
+    public enum Type {
+        PROJECT,
+        SKILL,
+        REPOSITORY
+    }
+}
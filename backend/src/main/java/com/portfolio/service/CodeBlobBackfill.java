@@ -0,0 +1,106 @@
+package com.portfolio.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Moves file bodies written before the blob store existed into
+ * {@code code_blobs}. Such rows still hold their body in the legacy
+ * {@code repository_files.content} column, which is no longer mapped, and
+ * have no {@code content_hash}. Each body is stored as a blob, the row gets
+ * its hash and the legacy column is cleared, one chunk per transaction, so
+ * an interrupted run picks up where it stopped. Runs before the seed loader;
+ * on a schema without the legacy column it does nothing.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class CodeBlobBackfill implements CommandLineRunner {
+
+    private static final String TABLE = "repository_files";
+    private static final String LEGACY_COLUMN = "content";
+
+    private static final String SELECT_SQL =
+            "SELECT id, content FROM repository_files WHERE content IS NOT NULL AND id > ? ORDER BY id LIMIT ?";
+    private static final String UPDATE_SQL =
+            "UPDATE repository_files SET content_hash = ?, content = NULL WHERE id = ?";
+
+    private final CodeBlobStore codeBlobStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public CodeBlobBackfill(CodeBlobStore codeBlobStore,
+                            JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${portfolio.blobs.backfill-chunk-size:200}") int chunkSize) {
+        this.codeBlobStore = codeBlobStore;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public void run(String... args) {
+        if (!hasLegacyColumn()) {
+            return;
+        }
+        long start = System.nanoTime();
+        long afterId = 0;
+        int migrated = 0;
+        while (true) {
+            List<LegacyFile> chunk = jdbcTemplate.query(SELECT_SQL,
+                    (rs, rowNum) -> new LegacyFile(rs.getLong("id"), rs.getString("content")), afterId, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Object[]> updates = new ArrayList<>(chunk.size());
+                for (LegacyFile file : chunk) {
+                    updates.add(new Object[]{codeBlobStore.store(file.content()), file.id()});
+                }
+                jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+            });
+            migrated += chunk.size();
+            afterId = chunk.get(chunk.size() - 1).id();
+        }
+        if (migrated > 0) {
+            log.info("Moved {} legacy file bodies into the blob store in {} ms",
+                    migrated, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private boolean hasLegacyColumn() {
+        Boolean present = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            // Unquoted identifiers are stored upper-case by H2 and lower-case by PostgreSQL
+            for (String table : List.of(TABLE, TABLE.toUpperCase(Locale.ROOT))) {
+                for (String column : List.of(LEGACY_COLUMN, LEGACY_COLUMN.toUpperCase(Locale.ROOT))) {
+                    try (ResultSet columns = metaData.getColumns(null, null, table, column)) {
+                        if (columns.next()) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(present);
+    }
+
+    private record LegacyFile(long id, String content) {
+    }
+}
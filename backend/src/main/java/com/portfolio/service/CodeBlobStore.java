@@ -0,0 +1,184 @@
+package com.portfolio.service;
+
+import com.portfolio.domain.model.CodeBlob;
+import com.portfolio.domain.model.CodeRepository;
+import com.portfolio.domain.model.CompressedContent;
+import com.portfolio.repository.CodeBlobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content-addressed store for code file bodies. Contents are keyed by their
+ * SHA-256, written once and gzip-compressed at rest; storing a body that
+ * already exists only returns its hash.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class CodeBlobStore {
+    
+    private static final int MAX_STORE_ATTEMPTS = 3;
+    
+    private static final String INSERT_SQL =
+            "INSERT INTO code_blobs (hash, data, size, compressed_size, created_at) VALUES (?, ?, ?, ?, ?) " +
+            "ON CONFLICT (hash) DO NOTHING";
+    private static final String MERGE_SQL =
+            "MERGE INTO code_blobs b USING (VALUES (CAST(? AS VARCHAR(64)))) v(hash) ON b.hash = v.hash " +
+            "WHEN NOT MATCHED THEN INSERT (hash, data, size, compressed_size, created_at) VALUES (v.hash, ?, ?, ?, ?)";
+    private static final String LOCK_SQL = "SELECT hash FROM code_blobs WHERE hash = ? FOR KEY SHARE";
+    private static final String EXCLUSIVE_LOCK_SQL = "SELECT hash FROM code_blobs WHERE hash = ? FOR UPDATE";
+    
+    private final CodeBlobRepository codeBlobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    
+    private volatile Boolean postgres;
+    
+    /**
+     * Stores {@code content} unless an identical body is already present and
+     * returns its hash. A {@code null} content is stored as the empty string.
+     * <p>
+     * The blob row stays locked until the caller's transaction ends, so a
+     * concurrent {@link #deleteUnreferenced} waits for the file that will
+     * reference it instead of deleting it underneath. Concurrent stores of the
+     * same new body do not conflict: the insert skips a row that exists.
+     */
+    @Transactional
+    public String store(String content) {
+        byte[] bytes = (content == null ? "" : content).getBytes(StandardCharsets.UTF_8);
+        String hash = CodeRepository.CodeFile.hashContent(content == null ? "" : content);
+        byte[] data = null;
+        for (int attempt = 0; attempt < MAX_STORE_ATTEMPTS; attempt++) {
+            if (lock(hash)) {
+                return hash;
+            }
+            // Missing, or deleted by a collection that held the lock before us
+            if (data == null) {
+                data = compress(bytes);
+            }
+            if (insertIfAbsent(hash, data, bytes.length) > 0) {
+                log.debug("Stored blob {} ({} bytes, {} compressed)", hash, bytes.length, data.length);
+            }
+        }
+        throw new IllegalStateException("Could not store blob " + hash + " after " + MAX_STORE_ATTEMPTS + " attempts");
+    }
+    
+    public Optional<CodeBlob> find(String hash) {
+        return codeBlobRepository.findById(hash);
+    }
+    
+    /**
+     * Loads and decompresses several bodies in one query, keyed by hash.
+     */
+    public Map<String, String> loadContents(Collection<String> hashes) {
+        Map<String, String> contents = new HashMap<>();
+        List<String> ids = hashes.stream().filter(Objects::nonNull).toList();
+        if (ids.isEmpty()) {
+            return contents;
+        }
+        for (CodeBlob blob : codeBlobRepository.findAllById(ids)) {
+            contents.put(blob.getHash(), new String(decompress(blob.getData()), StandardCharsets.UTF_8));
+        }
+        return contents;
+    }
+    
+    /**
+     * Deletes the given blobs if no file references them any more. The
+     * candidates are locked first, so a blob that a concurrent transaction is
+     * storing for a new file is only checked once that transaction has ended.
+     */
+    @Transactional
+    public int deleteUnreferenced(Collection<String> hashes) {
+        List<String> candidates = hashes.stream().filter(Objects::nonNull).distinct().toList();
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        List<String> locked = codeBlobRepository.lockAllById(candidates);
+        if (locked.isEmpty()) {
+            return 0;
+        }
+        int deleted = codeBlobRepository.deleteUnreferenced(locked);
+        if (deleted > 0) {
+            log.debug("Deleted {} unreferenced blobs", deleted);
+        }
+        return deleted;
+    }
+    
+    private boolean lock(String hash) {
+        // H2 has no shared row locks; an exclusive one serializes stores of the same body there
+        String sql = isPostgres() ? LOCK_SQL : EXCLUSIVE_LOCK_SQL;
+        return !jdbcTemplate.queryForList(sql, String.class, hash).isEmpty();
+    }
+    
+    private int insertIfAbsent(String hash, byte[] data, long size) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.update(isPostgres() ? INSERT_SQL : MERGE_SQL, hash, data, size, (long) data.length, now);
+    }
+    
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+    
+    /**
+     * Decompresses {@code blob} into {@code writer} without materializing the
+     * whole body as a string.
+     */
+    public static void copyContent(CompressedContent blob, Writer writer) {
+        try (Reader reader = new InputStreamReader(openStream(blob), StandardCharsets.UTF_8)) {
+            reader.transferTo(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    public static InputStream openStream(CompressedContent blob) throws IOException {
+        return new GZIPInputStream(new ByteArrayInputStream(blob.getData()));
+    }
+    
+    static byte[] compress(byte[] bytes) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (OutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+    
+    static byte[] decompress(byte[] data) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.portfolio.service;
+
+import com.portfolio.domain.model.CodeBlob;
+import com.portfolio.domain.model.CodeRender;
+import com.portfolio.domain.model.CodeRepository;
+import com.portfolio.repository.CodeBlobRepository;
+import com.portfolio.repository.CodeRenderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Precomputed syntax-highlighted HTML for stored file bodies. Renders are
+ * produced when content is written, keyed by renderer version, canonical
+ * language and content hash, and kept gzip-compressed next to the blobs they
+ * came from. Every language the highlighter does not know renders as plain
+ * text and shares the {@value #PLAIN} key, so a blob has at most one render
+ * per supported language.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class CodeHighlightStore {
+    
+    private static final String INSERT_SQL =
+            "INSERT INTO code_renders (hash, content_hash, language, data, size, compressed_size, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) ON CONFLICT (hash) DO NOTHING";
+    private static final String MERGE_SQL =
+            "MERGE INTO code_renders r USING (VALUES (CAST(? AS VARCHAR(64)))) v(hash) ON r.hash = v.hash " +
+            "WHEN NOT MATCHED THEN INSERT (hash, content_hash, language, data, size, compressed_size, created_at) " +
+            "VALUES (v.hash, ?, ?, ?, ?, ?, ?)";
+    
+    private final CodeRenderRepository codeRenderRepository;
+    private final CodeBlobRepository codeBlobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    
+    private volatile Boolean postgres;
+    
+    static final String PLAIN = "plain";
+    
+    public static String renderKey(String contentHash, String language) {
+        return CodeRepository.CodeFile.hashContent(
+                "highlight:" + SyntaxHighlighter.VERSION + ":" + renderLanguage(language) + ":" + contentHash);
+    }
+    
+    private static String renderLanguage(String language) {
+        return SyntaxHighlighter.canonicalName(language).orElse(PLAIN);
+    }
+    
+    /**
+     * Renders {@code content} unless a render for this hash and language exists.
+     */
+    @Transactional
+    public void render(String contentHash, String language, String content) {
+        String key = renderKey(contentHash, language);
+        if (!codeRenderRepository.existsById(key)) {
+            insertIfAbsent(render(key, contentHash, renderLanguage(language), new StringReader(content == null ? "" : content)));
+        }
+    }
+    
+    /**
+     * Returns the render for a blob, producing it from the stored body on a
+     * miss (content written before highlighting existed, or a renderer upgrade).
+     * Misses are stored only for supported languages; a language the
+     * highlighter does not know, which any caller can make up, is rendered as
+     * plain text for this response and not kept.
+     * <p>
+     * Concurrent first views of the same blob both render it; the insert skips
+     * a row that exists, so the slower one serves its identical copy instead
+     * of failing on the key.
+     */
+    @Transactional
+    public Optional<CodeRender> findOrRender(String contentHash, String language) {
+        String key = renderKey(contentHash, language);
+        Optional<CodeRender> existing = codeRenderRepository.findById(key);
+        if (existing.isPresent()) {
+            return existing;
+        }
+        Optional<CodeBlob> blob = codeBlobRepository.findById(contentHash);
+        if (blob.isEmpty()) {
+            return Optional.empty();
+        }
+        CodeRender render;
+        try (Reader reader = new InputStreamReader(CodeBlobStore.openStream(blob.get()), StandardCharsets.UTF_8)) {
+            render = render(key, contentHash, renderLanguage(language), reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (SyntaxHighlighter.canonicalName(language).isPresent()) {
+            insertIfAbsent(render);
+        }
+        return Optional.of(render);
+    }
+    
+    /**
+     * Deletes the renders of the given blobs once no file uses the blob.
+     */
+    @Transactional
+    public int deleteUnreferenced(Collection<String> contentHashes) {
+        List<String> candidates = contentHashes.stream().filter(Objects::nonNull).toList();
+        return candidates.isEmpty() ? 0 : codeRenderRepository.deleteUnreferenced(candidates);
+    }
+    
+    private void insertIfAbsent(CodeRender render) {
+        render.setCreatedAt(LocalDateTime.now());
+        try {
+            jdbcTemplate.update(isPostgres() ? INSERT_SQL : MERGE_SQL,
+                    render.getHash(), render.getContentHash(), render.getLanguage(), render.getData(),
+                    render.getSize(), render.getCompressedSize(), Timestamp.valueOf(render.getCreatedAt()));
+        } catch (DuplicateKeyException e) {
+            // H2's MERGE does not see another transaction's uncommitted row; the renders are identical
+            log.debug("Render {} was stored concurrently", render.getHash());
+        }
+    }
+    
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+    
+    private static CodeRender render(String key, String contentHash, String language, Reader source) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        CountingOutputStream counter;
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            counter = new CountingOutputStream(gzip);
+            Writer writer = new OutputStreamWriter(counter, StandardCharsets.UTF_8);
+            SyntaxHighlighter.highlight(language, source, writer);
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        
+        CodeRender render = new CodeRender();
+        render.setHash(key);
+        render.setContentHash(contentHash);
+        render.setLanguage(language);
+        render.setData(buffer.toByteArray());
+        render.setSize(counter.count);
+        render.setCompressedSize((long) render.getData().length);
+        log.debug("Rendered {} as {} ({} bytes of HTML)", contentHash, language, counter.count);
+        return render;
+    }
+    
+    private static final class CountingOutputStream extends FilterOutputStream {
+        
+        private long count;
+        
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+        
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+        
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -1,14 +1,36 @@
 package com.portfolio.service;
 
+import com.portfolio.config.CacheConfig;
+import com.portfolio.domain.dto.BatchItemResult;
+import com.portfolio.domain.dto.BatchResult;
+import com.portfolio.domain.dto.CodeFileSummary;
+import com.portfolio.domain.dto.CodeRepositorySummary;
+import com.portfolio.domain.model.CodeBlob;
+import com.portfolio.domain.model.CodeRender;
 import com.portfolio.domain.model.CodeRepository;
+import com.portfolio.repository.CodeFileContentRepository;
+import com.portfolio.repository.CodeFileRepository;
 import com.portfolio.repository.CodeRepositoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -16,52 +38,260 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class CodeRepositoryService {
     
+    // Cleared by every batch chunk as it commits
+    private static final List<String> BATCH_CACHES = List.of(CacheConfig.REPOSITORY);
+    
+
     private final CodeRepositoryRepository codeRepositoryRepository;
+    private final CodeFileContentRepository codeFileContentRepository;
+    private final CodeFileRepository codeFileRepository;
+    private final CodeBlobStore codeBlobStore;
+    private final CodeHighlightStore codeHighlightStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BatchWriter batchWriter;
     
-    public List<CodeRepository> getAllRepositories() {
-        log.debug("Fetching all code repositories");
-        return codeRepositoryRepository.findAllByOrderByDisplayOrderAsc();
+    public List<CodeRepositorySummary> getAllRepositories() {
+        return withFileSummaries(codeRepositoryRepository.findAllSummaries());
     }
     
+    @Cacheable(value = CacheConfig.REPOSITORY, key = "#id", unless = "#result == null")
     public Optional<CodeRepository> getRepositoryById(Long id) {
-        log.debug("Fetching code repository with id: {}", id);
-        return codeRepositoryRepository.findById(id);
+        return codeRepositoryRepository.findById(id).map(this::withContents);
+    }
+    
+    public List<CodeRepositorySummary> getRepositoriesByProjectId(Long projectId) {
+        return withFileSummaries(codeRepositoryRepository.findSummariesByProjectId(projectId));
+    }
+    
+    public Optional<String> findContentHash(Long repositoryId, String filePath) {
+        return codeFileContentRepository.findContentHash(repositoryId, filePath);
+    }
+    
+    public Optional<CodeBlob> findBlob(String hash) {
+        return codeBlobStore.find(hash);
+    }
+    
+    public Optional<CodeRepository.CodeFile> findFile(Long repositoryId, String filePath) {
+        return codeFileRepository.findByRepositoryIdAndFilePath(repositoryId, filePath);
+    }
+    
+    // Not read-only: a missing render is produced and stored on first request
+    @Transactional
+    public Optional<CodeRender> findHighlighted(String contentHash, String language) {
+        return codeHighlightStore.findOrRender(contentHash, language);
     }
     
-    public List<CodeRepository> getRepositoriesByProjectId(Long projectId) {
-        log.debug("Fetching code repositories for project id: {}", projectId);
-        return codeRepositoryRepository.findByProjectIdOrderByDisplayOrderAsc(projectId);
+    private CodeRepository withContents(CodeRepository repository) {
+        Set<String> hashes = new HashSet<>();
+        repository.getFiles().forEach(file -> hashes.add(file.getContentHash()));
+        Map<String, String> contents = codeBlobStore.loadContents(hashes);
+        repository.getFiles().forEach(file -> file.setContent(contents.get(file.getContentHash())));
+        return repository;
+    }
+    
+    private List<CodeRepositorySummary> withFileSummaries(List<CodeRepositorySummary> summaries) {
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+        List<Long> ids = summaries.stream().map(CodeRepositorySummary::getId).toList();
+        Map<Long, List<CodeFileSummary>> filesByRepository = codeRepositoryRepository.findFileSummaries(ids).stream()
+                .collect(Collectors.groupingBy(CodeFileSummary::getRepositoryId));
+        summaries.forEach(summary -> summary.setFiles(filesByRepository.getOrDefault(summary.getId(), List.of())));
+        return summaries;
     }
     
     @Transactional
     public CodeRepository createRepository(CodeRepository codeRepository) {
         log.debug("Creating new code repository: {}", codeRepository.getName());
-        return codeRepositoryRepository.save(codeRepository);
+        CodeRepository saved = insert(codeRepository);
+        eventPublisher.publishEvent(new CatalogueChangedEvent(CatalogueChangedEvent.Type.REPOSITORY, saved.getId()));
+        return saved;
     }
     
     @Transactional
+    @CacheEvict(value = CacheConfig.REPOSITORY, key = "#id")
     public Optional<CodeRepository> updateRepository(Long id, CodeRepository updatedRepository) {
         log.debug("Updating code repository with id: {}", id);
         return codeRepositoryRepository.findById(id)
                 .map(existing -> {
-                    existing.setName(updatedRepository.getName());
-                    existing.setDescription(updatedRepository.getDescription());
-                    existing.setProject(updatedRepository.getProject());
-                    existing.setFiles(updatedRepository.getFiles());
-                    existing.setGithubUrl(updatedRepository.getGithubUrl());
-                    existing.setDisplayOrder(updatedRepository.getDisplayOrder());
-                    return codeRepositoryRepository.save(existing);
+                    CodeRepository saved = merge(existing, updatedRepository);
+                    eventPublisher.publishEvent(new CatalogueChangedEvent(CatalogueChangedEvent.Type.REPOSITORY, id));
+                    return saved;
                 });
     }
     
+    /**
+     * Creates or updates the file at {@code filePath}. An unchanged file is left
+     * untouched; otherwise only that one row is written.
+     */
     @Transactional
+    @CacheEvict(value = CacheConfig.REPOSITORY, key = "#repositoryId")
+    public Optional<CodeRepository.CodeFile> saveFile(Long repositoryId, String filePath, CodeRepository.CodeFile file) {
+        log.debug("Saving file {} in code repository {}", filePath, repositoryId);
+        if (!codeRepositoryRepository.existsById(repositoryId)) {
+            return Optional.empty();
+        }
+        file.setFilePath(filePath);
+        Set<String> released = new HashSet<>();
+        CodeRepository.CodeFile saved = codeFileRepository.findByRepositoryIdAndFilePath(repositoryId, filePath)
+                .map(existing -> {
+                    applyChanges(existing, file, released);
+                    return existing;
+                })
+                .orElseGet(() -> {
+                    file.setRepository(codeRepositoryRepository.getReferenceById(repositoryId));
+                    file.setContentHash(storeContent(file.getContent(), file.getLanguage()));
+                    return codeFileRepository.save(file);
+                });
+        releaseContent(released);
+        eventPublisher.publishEvent(new CatalogueChangedEvent(CatalogueChangedEvent.Type.REPOSITORY, repositoryId));
+        return Optional.of(saved);
+    }
+    
+    @Transactional
+    @CacheEvict(value = CacheConfig.REPOSITORY, key = "#repositoryId")
+    public boolean deleteFile(Long repositoryId, String filePath) {
+        log.debug("Deleting file {} from code repository {}", filePath, repositoryId);
+        return codeFileRepository.findByRepositoryIdAndFilePath(repositoryId, filePath)
+                .map(file -> {
+                    codeFileRepository.delete(file);
+                    releaseContent(Collections.singleton(file.getContentHash()));
+                    eventPublisher.publishEvent(new CatalogueChangedEvent(CatalogueChangedEvent.Type.REPOSITORY, repositoryId));
+                    return true;
+                })
+                .orElse(false);
+    }
+    
+    private CodeRepository insert(CodeRepository codeRepository) {
+        codeRepository.getFiles().forEach(file -> {
+            file.setRepository(codeRepository);
+            file.setContentHash(storeContent(file.getContent(), file.getLanguage()));
+        });
+        return codeRepositoryRepository.save(codeRepository);
+    }
+    
+    private CodeRepository merge(CodeRepository existing, CodeRepository updatedRepository) {
+        existing.setName(updatedRepository.getName());
+        existing.setDescription(updatedRepository.getDescription());
+        existing.setProject(updatedRepository.getProject());
+        Set<String> released = mergeFiles(existing, updatedRepository.getFiles());
+        existing.setGithubUrl(updatedRepository.getGithubUrl());
+        existing.setDisplayOrder(updatedRepository.getDisplayOrder());
+        CodeRepository saved = codeRepositoryRepository.save(existing);
+        releaseContent(released);
+        return saved;
+    }
+    
+    private void remove(CodeRepository repository) {
+        Set<String> released = new HashSet<>();
+        repository.getFiles().forEach(file -> released.add(file.getContentHash()));
+        codeRepositoryRepository.delete(repository);
+        releaseContent(released);
+    }
+    
+    /**
+     * Reconciles the repository's files with {@code updatedFiles} by path: new
+     * paths are inserted, missing ones removed, and existing files only touched
+     * when their content hash or metadata differ. Returns the hashes of bodies
+     * that are no longer referenced by this repository.
+     */
+    private Set<String> mergeFiles(CodeRepository repository, List<CodeRepository.CodeFile> updatedFiles) {
+        Set<String> released = new HashSet<>();
+        Map<String, CodeRepository.CodeFile> current = repository.getFiles().stream()
+                .collect(Collectors.toMap(CodeRepository.CodeFile::getFilePath, Function.identity(),
+                        (a, b) -> a, LinkedHashMap::new));
+        for (CodeRepository.CodeFile updated : updatedFiles) {
+            CodeRepository.CodeFile existing = current.remove(updated.getFilePath());
+            if (existing == null) {
+                updated.setContentHash(storeContent(updated.getContent(), updated.getLanguage()));
+                repository.addFile(updated);
+            } else {
+                applyChanges(existing, updated, released);
+            }
+        }
+        current.values().forEach(removed -> released.add(removed.getContentHash()));
+        repository.getFiles().removeAll(current.values());
+        return released;
+    }
+    
+    /**
+     * Stores a file body and its highlighted render, returning the content hash.
+     */
+    private String storeContent(String content, String language) {
+        String contentHash = codeBlobStore.store(content);
+        codeHighlightStore.render(contentHash, language, content);
+        return contentHash;
+    }
+    
+    private void releaseContent(Collection<String> contentHashes) {
+        codeHighlightStore.deleteUnreferenced(contentHashes);
+        codeBlobStore.deleteUnreferenced(contentHashes);
+    }
+    
+    private void applyChanges(CodeRepository.CodeFile existing, CodeRepository.CodeFile updated, Set<String> released) {
+        String content = updated.getContent() == null ? "" : updated.getContent();
+        boolean contentChanged = !Objects.equals(existing.getContentHash(), CodeRepository.CodeFile.hashContent(content));
+        boolean languageChanged = !Objects.equals(existing.getLanguage(), updated.getLanguage());
+        if (contentChanged || languageChanged) {
+            released.add(existing.getContentHash());
+            existing.setContentHash(storeContent(content, updated.getLanguage()));
+        }
+        // Setters with equal values leave the entity clean, so no UPDATE is issued
+        existing.setFileName(updated.getFileName());
+        existing.setLanguage(updated.getLanguage());
+        existing.setLines(updated.getLines());
+    }
+    
+    @Transactional
+    @CacheEvict(value = CacheConfig.REPOSITORY, key = "#id")
     public boolean deleteRepository(Long id) {
         log.debug("Deleting code repository with id: {}", id);
         return codeRepositoryRepository.findById(id)
                 .map(repository -> {
-                    codeRepositoryRepository.delete(repository);
+                    remove(repository);
+                    eventPublisher.publishEvent(new CatalogueChangedEvent(CatalogueChangedEvent.Type.REPOSITORY, id));
                     return true;
                 })
                 .orElse(false);
     }
+    
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResult createRepositories(List<CodeRepository> repositories) {
+        log.debug("Creating {} code repositories in batch", repositories.size());
+        return batchWriter.write(repositories, CatalogueChangedEvent.Type.REPOSITORY, BATCH_CACHES, (index, repository) -> {
+            repository.setId(null);
+            CodeRepository saved = insert(repository);
+            return BatchItemResult.of(index, saved.getId(), BatchItemResult.Status.CREATED);
+        });
+    }
+    
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResult updateRepositories(List<CodeRepository> repositories) {
+        log.debug("Updating {} code repositories in batch", repositories.size());
+        return batchWriter.write(repositories, CodeRepository::getId, CatalogueChangedEvent.Type.REPOSITORY,
+                BATCH_CACHES, (index, updated) -> codeRepositoryRepository.findById(updated.getId())
+                        .map(existing -> {
+                            merge(existing, updated);
+                            return BatchItemResult.of(index, existing.getId(), BatchItemResult.Status.UPDATED);
+                        })
+                        .orElseGet(() -> BatchItemResult.of(index, updated.getId(), BatchItemResult.Status.NOT_FOUND)));
+    }
+    
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResult deleteRepositories(List<Long> ids) {
+        log.debug("Deleting {} code repositories in batch", ids.size());
+        return batchWriter.write(ids, CatalogueChangedEvent.Type.REPOSITORY, BATCH_CACHES,
+                (index, id) -> codeRepositoryRepository.findById(id)
+                        .map(repository -> {
+                            remove(repository);
+                            return BatchItemResult.of(index, id, BatchItemResult.Status.DELETED);
+                        })
+                        .orElseGet(() -> BatchItemResult.of(index, id, BatchItemResult.Status.NOT_FOUND)));
+    }
+    
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResult reorderRepositories(List<Long> ids) {
+        log.debug("Reordering {} code repositories", ids.size());
+        return batchWriter.reorder(CodeRepository.class, CatalogueChangedEvent.Type.REPOSITORY, BATCH_CACHES, ids);
+    }
 }
@@ -0,0 +1,242 @@
+package com.portfolio.service;
+
+import com.portfolio.domain.model.ContactMessage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Buffers incoming contact messages in a bounded queue and writes them with
+ * JDBC batch inserts from a single background thread. When the queue is full,
+ * {@link #enqueue} refuses the message so the caller can shed load.
+ * <p>
+ * A batch is written in one transaction. If it fails, it is retried with
+ * exponential backoff; while the writer waits the queue fills and callers get
+ * 429 instead of having their message dropped. A batch that still fails is
+ * written one row at a time, so a single bad row only loses itself.
+ */
+@Service
+@Slf4j
+public class ContactMessageIngestionService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO contact_messages (name, email, message, is_read, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long shutdownTimeoutMillis;
+    private final int retryAttempts;
+    private final long retryBackoffMillis;
+    private final BlockingQueue<ContactMessage> queue;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public ContactMessageIngestionService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${portfolio.contact.ingestion.async:false}") boolean enabled,
+            @Value("${portfolio.contact.ingestion.queue-capacity:10000}") int queueCapacity,
+            @Value("${portfolio.contact.ingestion.batch-size:100}") int batchSize,
+            @Value("${portfolio.contact.ingestion.flush-interval-ms:200}") long flushIntervalMillis,
+            @Value("${portfolio.contact.ingestion.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis,
+            @Value("${portfolio.contact.ingestion.retry-attempts:3}") int retryAttempts,
+            @Value("${portfolio.contact.ingestion.retry-backoff-ms:100}") long retryBackoffMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.retryAttempts = retryAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::runWriter, "contact-ingestion-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Asynchronous contact message ingestion started (capacity {}, batch size {})",
+                queue.remainingCapacity(), batchSize);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        // The writer keeps flushing until the queue is empty once running is cleared.
+        running = false;
+        writer.join(shutdownTimeoutMillis);
+        if (writer.isAlive()) {
+            log.warn("Contact ingestion writer did not drain within {} ms, {} messages left",
+                    shutdownTimeoutMillis, queue.size());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean enqueue(ContactMessage message) {
+        message.setId(null);
+        message.setIsRead(false);
+        message.setCreatedAt(LocalDateTime.now());
+        if (running && queue.offer(message)) {
+            accepted.incrementAndGet();
+            return true;
+        }
+        rejected.incrementAndGet();
+        return false;
+    }
+
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("queueDepth", (long) queue.size());
+        stats.put("remainingCapacity", (long) queue.remainingCapacity());
+        stats.put("accepted", accepted.get());
+        stats.put("rejected", rejected.get());
+        stats.put("written", written.get());
+        stats.put("failed", failed.get());
+        stats.put("batches", batches.get());
+        stats.put("retries", retries.get());
+        return stats;
+    }
+
+    private void runWriter() {
+        List<ContactMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                fillBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            flush(batch);
+        }
+        // Interrupted: flush whatever is still queued before exiting.
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+        }
+    }
+
+    /**
+     * Waits up to one flush interval for the first message, then keeps
+     * collecting until the batch is full or the interval has elapsed.
+     */
+    private void fillBatch(List<ContactMessage> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            ContactMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<ContactMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    insert(batch);
+                    written.addAndGet(batch.size());
+                    batches.incrementAndGet();
+                    return;
+                } catch (DataAccessException e) {
+                    if (attempt >= retryAttempts) {
+                        log.warn("Batch of {} contact messages failed {} times, writing them one by one: {}",
+                                batch.size(), attempt + 1, e.getMessage());
+                        break;
+                    }
+                    retries.incrementAndGet();
+                    if (!backOff(attempt)) {
+                        break;
+                    }
+                }
+            }
+            for (ContactMessage message : batch) {
+                try {
+                    insert(List.of(message));
+                    written.incrementAndGet();
+                } catch (DataAccessException e) {
+                    failed.incrementAndGet();
+                    log.error("Failed to write contact message created at {}", message.getCreatedAt(), e);
+                }
+            }
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * All rows or none: a partly written batch would be written twice by the
+     * retry or the row-by-row fallback.
+     */
+    private void insert(List<ContactMessage> messages) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, message) -> {
+                    ps.setString(1, message.getName());
+                    ps.setString(2, message.getEmail());
+                    ps.setString(3, message.getMessage());
+                    ps.setBoolean(4, message.getIsRead());
+                    ps.setTimestamp(5, Timestamp.valueOf(message.getCreatedAt()));
+                }));
+    }
+
+    /**
+     * Sleeps 1x, 2x, 4x... the base backoff. Returns false when interrupted by
+     * shutdown, in which case the batch goes straight to the row-by-row path.
+     */
+    private boolean backOff(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMillis << Math.min(attempt, 10));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
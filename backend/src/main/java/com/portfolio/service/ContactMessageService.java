@@ -1,12 +1,19 @@
 package com.portfolio.service;
 
+import com.portfolio.domain.dto.CursorPage;
 import com.portfolio.domain.model.ContactMessage;
 import com.portfolio.repository.ContactMessageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,20 +23,36 @@ import java.util.Optional;
 @Transactional
 public class ContactMessageService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final ContactMessageRepository contactMessageRepository;
 
-    public List<ContactMessage> getAllMessages() {
-        log.debug("Fetching all contact messages");
-        return contactMessageRepository.findAllByOrderByCreatedAtDesc();
+    @Transactional(readOnly = true)
+    public CursorPage<ContactMessage> getMessages(String cursor, int size) {
+        Pageable limit = PageRequest.of(0, clampPageSize(size));
+        if (cursor == null || cursor.isBlank()) {
+            return toPage(contactMessageRepository.findFirstPage(limit), limit);
+        }
+        Cursor position = decodeCursor(cursor);
+        return toPage(contactMessageRepository.findPageAfter(position.createdAt(), position.id(), limit), limit);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ContactMessage> getUnreadMessages(String cursor, int size) {
+        Pageable limit = PageRequest.of(0, clampPageSize(size));
+        if (cursor == null || cursor.isBlank()) {
+            return toPage(contactMessageRepository.findFirstUnreadPage(limit), limit);
+        }
+        Cursor position = decodeCursor(cursor);
+        return toPage(contactMessageRepository.findUnreadPageAfter(position.createdAt(), position.id(), limit), limit);
     }
 
-    public List<ContactMessage> getUnreadMessages() {
-        log.debug("Fetching unread contact messages");
-        return contactMessageRepository.findByIsReadFalseOrderByCreatedAtDesc();
+    @Transactional(readOnly = true)
+    public long countUnreadMessages() {
+        return contactMessageRepository.countByIsReadFalse();
     }
 
     public Optional<ContactMessage> getMessageById(Long id) {
-        log.debug("Fetching contact message with id: {}", id);
         return contactMessageRepository.findById(id);
     }
 
@@ -51,4 +74,36 @@ public class ContactMessageService {
         log.info("Deleting contact message with id: {}", id);
         contactMessageRepository.deleteById(id);
     }
+
+    private static int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private static CursorPage<ContactMessage> toPage(List<ContactMessage> messages, Pageable limit) {
+        String nextCursor = null;
+        if (messages.size() == limit.getPageSize()) {
+            ContactMessage last = messages.get(messages.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getId());
+        }
+        return new CursorPage<>(messages, nextCursor);
+    }
+
+    private static String encodeCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    private record Cursor(LocalDateTime createdAt, Long id) {
+    }
 }
@@ -1,247 +1,407 @@
 package com.portfolio.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portfolio.domain.model.CodeRepository;
 import com.portfolio.domain.model.Project;
+import com.portfolio.domain.model.SeedVersion;
 import com.portfolio.domain.model.Skill;
 import com.portfolio.repository.CodeRepositoryRepository;
 import com.portfolio.repository.ProjectRepository;
+import com.portfolio.repository.SeedVersionRepository;
 import com.portfolio.repository.SkillRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
-
-import java.util.Arrays;
-
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Loads the portfolio catalogue from a versioned JSON dataset.
+ * <p>
+ * The dataset checksum is recorded in {@code seed_versions}; a restart against a
+ * database that already holds the same version skips the load entirely. When the
+ * dataset changes, rows are matched by natural key (project title, skill name,
+ * repository name): missing ones are inserted with batched {@code saveAll} calls
+ * and existing ones updated where the dataset differs, in a single transaction.
+ * Rows that are no longer in the dataset are left alone.
+ * <p>
+ * For load testing, {@code portfolio.seed.synthetic-rows} adds that many generated
+ * projects and skills, written in parallel chunks with JDBC batch inserts and
+ * marked with {@code is_synthetic}.
+ * <p>
+ * Set {@code portfolio.seed.enabled=false} to skip seeding altogether. The flag is
+ * read when the runner starts rather than as a bean condition, because the native
+ * image fixes bean conditions at build time and {@code SEED_ENABLED} must still
+ * work there.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class DataInitializationService implements CommandLineRunner {
 
+    static final String DATASET_SEED = "portfolio";
+    static final String SYNTHETIC_SEED = "synthetic";
+
+    private static final String SYNTHETIC_TAG = "Synthetic";
+
     private final ProjectRepository projectRepository;
     private final SkillRepository skillRepository;
     private final CodeRepositoryRepository codeRepositoryRepository;
+    private final CodeRepositoryService codeRepositoryService;
+    private final SeedVersionRepository seedVersionRepository;
+    private final CodeBlobStore codeBlobStore;
+    private final CodeHighlightStore codeHighlightStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Resource seedLocation;
+    private final int syntheticRows;
+    private final int chunkSize;
+    private final int parallelism;
+
+    public DataInitializationService(ProjectRepository projectRepository,
+                                     SkillRepository skillRepository,
+                                     CodeRepositoryRepository codeRepositoryRepository,
+                                     CodeRepositoryService codeRepositoryService,
+                                     SeedVersionRepository seedVersionRepository,
+                                     CodeBlobStore codeBlobStore,
+                                     CodeHighlightStore codeHighlightStore,
+                                     JdbcTemplate jdbcTemplate,
+                                     TransactionTemplate transactionTemplate,
+                                     ObjectMapper objectMapper,
+                                     @Value("${portfolio.seed.enabled:true}") boolean enabled,
+                                     @Value("${portfolio.seed.location:classpath:seed/portfolio-seed.json}") Resource seedLocation,
+                                     @Value("${portfolio.seed.synthetic-rows:0}") int syntheticRows,
+                                     @Value("${portfolio.seed.chunk-size:1000}") int chunkSize,
+                                     @Value("${portfolio.seed.parallelism:4}") int parallelism) {
+        this.projectRepository = projectRepository;
+        this.skillRepository = skillRepository;
+        this.codeRepositoryRepository = codeRepositoryRepository;
+        this.codeRepositoryService = codeRepositoryService;
+        this.seedVersionRepository = seedVersionRepository;
+        this.codeBlobStore = codeBlobStore;
+        this.codeHighlightStore = codeHighlightStore;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.seedLocation = seedLocation;
+        this.syntheticRows = syntheticRows;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.parallelism = Math.max(1, parallelism);
+    }
 
     @Override
-    public void run(String... args) {
-        log.info("Initializing database with sample data...");
-        initializeProjects();
-        initializeSkills();
-        initializeCodeRepositories();
-        log.info("Database initialization completed!");
+    public void run(String... args) throws IOException {
+        if (!enabled) {
+            log.info("Seeding disabled (portfolio.seed.enabled=false)");
+            return;
+        }
+        long start = System.nanoTime();
+        loadDataset();
+        if (syntheticRows > 0) {
+            loadSyntheticRows();
+        }
+        log.info("Database initialization completed in {} ms", (System.nanoTime() - start) / 1_000_000);
     }
 
-    private void initializeProjects() {
-        if (projectRepository.count() > 0) {
-            log.info("Projects already exist, skipping initialization");
+    private void loadDataset() throws IOException {
+        byte[] content;
+        try (InputStream in = seedLocation.getInputStream()) {
+            content = in.readAllBytes();
+        }
+        String checksum = sha256(content);
+
+        if (isApplied(DATASET_SEED, checksum)) {
+            log.info("Seed dataset {} already applied, skipping", seedLocation.getFilename());
             return;
         }
 
-        log.info("Creating sample projects...");
-
-        // Real Projects
-        Project project1 = new Project();
-        project1.setTitle("Ciget Commercial Website");
-        project1.setDescription("Developed a professional commercial website for Ciget, featuring modern UI/UX design, responsive layout, and seamless user experience. Built with cutting-edge web technologies for optimal performance and SEO.");
-        project1.setCategory(Project.ProjectCategory.WEB_DEVELOPMENT);
-        project1.setTags(Arrays.asList("Web Design", "Responsive", "SEO", "UI/UX"));
-        project1.setIconName("Globe");
-        project1.setGradientFrom("blue-600");
-        project1.setGradientTo("cyan-600");
-        project1.setIsFeatured(true);
-        project1.setDisplayOrder(1);
-
-        Project project2 = new Project();
-        project2.setTitle("AI Fish Race Gambling Platform");
-        project2.setDescription("Revolutionary gambling platform using computer vision AI to detect when fish cross the finish line in real-time. Integrated IoT scanners built with Arduino for accurate race tracking and automated result verification.");
-        project2.setCategory(Project.ProjectCategory.MACHINE_LEARNING);
-        project2.setTags(Arrays.asList("AI", "Computer Vision", "IoT", "Arduino", "Real-time Processing"));
-        project2.setIconName("Cpu");
-        project2.setGradientFrom("purple-600");
-        project2.setGradientTo("pink-600");
-        project2.setIsFeatured(true);
-        project2.setDisplayOrder(2);
-
-        Project project3 = new Project();
-        project3.setTitle("Energy Education 3D Game");
-        project3.setDescription("Collaborative 3D video game developed with a team of 6 developers to teach children about energy usage and conservation. Interactive gameplay makes learning about sustainability fun and engaging through immersive 3D environments.");
-        project3.setCategory(Project.ProjectCategory.WEB_DEVELOPMENT);
-        project3.setTags(Arrays.asList("JavaScript", "3D Graphics", "Education", "Game Development", "Team Project"));
-        project3.setIconName("Gamepad2");
-        project3.setGradientFrom("green-600");
-        project3.setGradientTo("emerald-600");
-        project3.setIsFeatured(true);
-        project3.setDisplayOrder(3);
-
-        Project project4 = new Project();
-        project4.setTitle("Real-Time Data Pipeline with Airflow");
-        project4.setDescription("Engineered a real-time data processing pipeline using Apache Airflow orchestration and Docker containerization. Handles continuous data ingestion, transformation, and loading with automated monitoring and error handling.");
-        project4.setCategory(Project.ProjectCategory.DATA_ENGINEERING);
-        project4.setTags(Arrays.asList("Apache Airflow", "Docker", "Real-time Processing", "ETL", "Python"));
-        project4.setIconName("Workflow");
-        project4.setGradientFrom("orange-600");
-        project4.setGradientTo("red-600");
-        project4.setIsFeatured(true);
-        project4.setDisplayOrder(4);
-
-        Project project5 = new Project();
-        project5.setTitle("Azure Flower Database - Batch Processing");
-        project5.setDescription("Batch processing system for flower data with input validation and Azure Container Database integration. Automated data ingestion pipeline validates entries before storage, ensuring data quality and consistency in the cloud database.");
-        project5.setCategory(Project.ProjectCategory.DATA_ENGINEERING);
-        project5.setTags(Arrays.asList("Azure", "Batch Processing", "Data Validation", "Container Database", "ETL"));
-        project5.setIconName("Database");
-        project5.setGradientFrom("indigo-600");
-        project5.setGradientTo("blue-600");
-        project5.setIsFeatured(true);
-        project5.setDisplayOrder(5);
-
-        Project project6 = new Project();
-        project6.setTitle("Depression Prediction ML Model");
-        project6.setDescription("Machine learning model designed to predict depression risk based on patient data and behavioral patterns. Uses advanced algorithms to identify early warning signs, achieving high accuracy in mental health assessment.");
-        project6.setCategory(Project.ProjectCategory.MACHINE_LEARNING);
-        project6.setTags(Arrays.asList("Machine Learning", "Python", "Healthcare", "Predictive Analytics", "Data Science"));
-        project6.setIconName("Brain");
-        project6.setGradientFrom("pink-600");
-        project6.setGradientTo("rose-600");
-        project6.setIsFeatured(true);
-        project6.setDisplayOrder(6);
-
-        Project project7 = new Project();
-        project7.setTitle("Finance Dashboard");
-        project7.setDescription("Interactive financial analytics dashboard with real-time data visualization, expense tracking, and budget management. Features dynamic charts, spending insights, and financial goal tracking.");
-        project7.setCategory(Project.ProjectCategory.WEB_DEVELOPMENT);
-        project7.setTags(Arrays.asList("React", "Data Visualization", "Finance", "Dashboard", "Charts"));
-        project7.setIconName("LineChart");
-        project7.setGradientFrom("#10B981");
-        project7.setGradientTo("#3B82F6");
-        project7.setIsFeatured(true);
-        project7.setDisplayOrder(7);
-
-        Project project8 = new Project();
-        project8.setTitle("Mobile Fitness Tracker");
-        project8.setDescription("Cross-platform mobile fitness application for tracking workouts, nutrition, and health metrics. Features progress visualization, workout plans, and achievement tracking with social sharing capabilities.");
-        project8.setCategory(Project.ProjectCategory.MOBILE_DEVELOPMENT);
-        project8.setTags(Arrays.asList("React Native", "Mobile", "Fitness", "Health Tracking", "Cross-platform"));
-        project8.setIconName("Activity");
-        project8.setGradientFrom("#F59E0B");
-        project8.setGradientTo("#EF4444");
-        project8.setIsFeatured(true);
-        project8.setDisplayOrder(8);
-
-        Project project9 = new Project();
-        project9.setTitle("SplitTracker - Expense Splitting App");
-        project9.setDescription("Smart expense splitting application with OCR receipt scanning. Automatically detects items and prices from photos, calculates fair splits, and tracks group expenses with payment reminders.");
-        project9.setCategory(Project.ProjectCategory.MOBILE_DEVELOPMENT);
-        project9.setTags(Arrays.asList("OCR", "Mobile", "Finance", "Computer Vision", "React Native"));
-        project9.setIconName("Receipt");
-        project9.setGradientFrom("#8B5CF6");
-        project9.setGradientTo("#EC4899");
-        project9.setIsFeatured(true);
-        project9.setDisplayOrder(9);
-
-        projectRepository.saveAll(Arrays.asList(project1, project2, project3, project4, project5, project6, project7, project8, project9));
-        log.info("Created {} sample projects", 9);
+        SeedDataset dataset = objectMapper.readValue(content, SeedDataset.class);
+        transactionTemplate.executeWithoutResult(status -> {
+            Applied projects = upsertProjects(dataset.getProjects());
+            Applied skills = upsertSkills(dataset.getSkills());
+            Applied repositories = upsertRepositories(dataset.getRepositories());
+            seedVersionRepository.save(new SeedVersion(DATASET_SEED, checksum, LocalDateTime.now()));
+            log.info("Applied seed dataset v{}: projects {}, skills {}, repositories {}",
+                    dataset.getVersion(), projects, skills, repositories);
+        });
     }
 
-    private void initializeSkills() {
-        if (skillRepository.count() > 0) {
-            log.info("Skills already exist, skipping initialization");
-            return;
+    private record Applied(int inserted, int updated) {
+        @Override
+        public String toString() {
+            return inserted + " inserted / " + updated + " updated";
         }
+    }
 
-        log.info("Creating sample skills...");
-
-        // Data Engineering Skills
-        skillRepository.save(createSkill("Apache Spark", Skill.SkillCategory.DATA_ENGINEERING, 62, 1));
-        skillRepository.save(createSkill("Apache Kafka", Skill.SkillCategory.DATA_ENGINEERING, 58, 2));
-        skillRepository.save(createSkill("Apache Airflow", Skill.SkillCategory.DATA_ENGINEERING, 60, 3));
-        skillRepository.save(createSkill("dbt", Skill.SkillCategory.DATA_ENGINEERING, 55, 4));
-        skillRepository.save(createSkill("ETL/ELT", Skill.SkillCategory.DATA_ENGINEERING, 65, 5));
-
-        // Cloud & Infrastructure
-        skillRepository.save(createSkill("Snowflake", Skill.SkillCategory.CLOUD_INFRASTRUCTURE, 52, 1));
-        skillRepository.save(createSkill("Docker & Kubernetes", Skill.SkillCategory.CLOUD_INFRASTRUCTURE, 56, 2));
-        skillRepository.save(createSkill("Terraform", Skill.SkillCategory.CLOUD_INFRASTRUCTURE, 50, 3));
-        skillRepository.save(createSkill("Azure Data Factory", Skill.SkillCategory.CLOUD_INFRASTRUCTURE, 50, 4));
-
-        // Programming & Databases
-        skillRepository.save(createSkill("Python", Skill.SkillCategory.PROGRAMMING_DATABASES, 68, 1));
-        skillRepository.save(createSkill("SQL", Skill.SkillCategory.PROGRAMMING_DATABASES, 68, 2));
-        skillRepository.save(createSkill("Java", Skill.SkillCategory.PROGRAMMING_DATABASES, 64, 3));
-        skillRepository.save(createSkill("PostgreSQL", Skill.SkillCategory.PROGRAMMING_DATABASES, 66, 4));
-        skillRepository.save(createSkill("MongoDB", Skill.SkillCategory.PROGRAMMING_DATABASES, 58, 5));
-
-        // Analytics & ML
-        skillRepository.save(createSkill("Data Modeling", Skill.SkillCategory.ANALYTICS_ML, 62, 1));
-        skillRepository.save(createSkill("Pandas & NumPy", Skill.SkillCategory.ANALYTICS_ML, 66, 2));
-        skillRepository.save(createSkill("TensorFlow", Skill.SkillCategory.ANALYTICS_ML, 54, 3));
-        skillRepository.save(createSkill("Tableau/PowerBI", Skill.SkillCategory.ANALYTICS_ML, 60, 4));
-        skillRepository.save(createSkill("MLflow", Skill.SkillCategory.ANALYTICS_ML, 50, 5));
-
-        // Development Tools
-        skillRepository.save(createSkill("Git & GitHub", Skill.SkillCategory.DEVELOPMENT_TOOLS, 68, 1));
-        skillRepository.save(createSkill("CI/CD Pipelines", Skill.SkillCategory.DEVELOPMENT_TOOLS, 56, 2));
-        skillRepository.save(createSkill("Linux/Bash", Skill.SkillCategory.DEVELOPMENT_TOOLS, 62, 3));
-        skillRepository.save(createSkill("VS Code", Skill.SkillCategory.DEVELOPMENT_TOOLS, 68, 4));
-        skillRepository.save(createSkill("Jupyter Notebooks", Skill.SkillCategory.DEVELOPMENT_TOOLS, 66, 5));
-
-        // Web Development
-        skillRepository.save(createSkill("React & Next.js", Skill.SkillCategory.WEB_DEVELOPMENT, 64, 1));
-        skillRepository.save(createSkill("TypeScript", Skill.SkillCategory.WEB_DEVELOPMENT, 62, 2));
-        skillRepository.save(createSkill("Spring Boot", Skill.SkillCategory.WEB_DEVELOPMENT, 60, 3));
-        skillRepository.save(createSkill("Tailwind CSS", Skill.SkillCategory.WEB_DEVELOPMENT, 66, 4));
-        skillRepository.save(createSkill("REST APIs", Skill.SkillCategory.WEB_DEVELOPMENT, 66, 5));
-
-        log.info("Created 30 sample skills");
+    private Applied upsertProjects(List<Project> projects) {
+        Map<String, Project> existing = projectRepository.findByTitleIn(
+                        projects.stream().map(Project::getTitle).toList()).stream()
+                .collect(Collectors.toMap(Project::getTitle, Function.identity(), (a, b) -> a));
+        List<Project> missing = new ArrayList<>();
+        int updated = 0;
+        for (Project seed : projects) {
+            Project current = existing.get(seed.getTitle());
+            if (current == null) {
+                missing.add(seed);
+            } else if (copy(seed, current)) {
+                updated++;
+            }
+        }
+        projectRepository.saveAll(missing);
+        return new Applied(missing.size(), updated);
     }
 
-    private Skill createSkill(String name, Skill.SkillCategory category, int level, int displayOrder) {
-        Skill skill = new Skill();
-        skill.setName(name);
-        skill.setCategory(category);
-        skill.setLevel(level);
-        skill.setDisplayOrder(displayOrder);
-        return skill;
+    private Applied upsertSkills(List<Skill> skills) {
+        Map<String, Skill> existing = skillRepository.findByNameIn(
+                        skills.stream().map(Skill::getName).toList()).stream()
+                .collect(Collectors.toMap(Skill::getName, Function.identity(), (a, b) -> a));
+        List<Skill> missing = new ArrayList<>();
+        int updated = 0;
+        for (Skill seed : skills) {
+            Skill current = existing.get(seed.getName());
+            if (current == null) {
+                missing.add(seed);
+            } else if (copy(seed, current)) {
+                updated++;
+            }
+        }
+        skillRepository.saveAll(missing);
+        return new Applied(missing.size(), updated);
     }
 
-    private void initializeCodeRepositories() {
-        if (codeRepositoryRepository.count() > 0) {
-            log.info("Code repositories already exist, skipping initialization");
-            return;
+    /**
+     * Changed repositories go through {@link CodeRepositoryService#updateRepository},
+     * which reconciles files by path and releases bodies no longer referenced.
+     */
+    private Applied upsertRepositories(List<SeedDataset.SeedRepository> repositories) {
+        Map<String, CodeRepository> existing = codeRepositoryRepository.findByNameIn(
+                        repositories.stream().map(SeedDataset.SeedRepository::getName).toList()).stream()
+                .collect(Collectors.toMap(CodeRepository::getName, Function.identity(), (a, b) -> a));
+        Set<String> titles = repositories.stream()
+                .map(SeedDataset.SeedRepository::getProjectTitle)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, Project> projectsByTitle = projectRepository.findByTitleIn(titles).stream()
+                .collect(Collectors.toMap(Project::getTitle, Function.identity(), (a, b) -> a));
+
+        List<CodeRepository> missing = new ArrayList<>();
+        int updated = 0;
+        for (SeedDataset.SeedRepository seed : repositories) {
+            CodeRepository repository = toRepository(seed, projectsByTitle);
+            CodeRepository current = existing.get(seed.getName());
+            if (current == null) {
+                for (CodeRepository.CodeFile file : repository.getFiles()) {
+                    file.setContentHash(codeBlobStore.store(file.getContent()));
+                    codeHighlightStore.render(file.getContentHash(), file.getLanguage(), file.getContent());
+                }
+                missing.add(repository);
+            } else if (differs(current, repository)) {
+                codeRepositoryService.updateRepository(current.getId(), repository);
+                updated++;
+            }
+        }
+        codeRepositoryRepository.saveAll(missing);
+        return new Applied(missing.size(), updated);
+    }
+
+    private CodeRepository toRepository(SeedDataset.SeedRepository seed, Map<String, Project> projectsByTitle) {
+        CodeRepository repository = new CodeRepository();
+        repository.setName(seed.getName());
+        repository.setDescription(seed.getDescription());
+        repository.setGithubUrl(seed.getGithubUrl());
+        repository.setDisplayOrder(seed.getDisplayOrder());
+        seed.getFiles().forEach(repository::addFile);
+        if (seed.getProjectTitle() != null) {
+            Project project = projectsByTitle.get(seed.getProjectTitle());
+            if (project == null) {
+                log.warn("Seed repository '{}' references unknown project '{}'", seed.getName(), seed.getProjectTitle());
+            }
+            repository.setProject(project);
         }
+        return repository;
+    }
+
+    /**
+     * Copies the seed's values onto a stored project. Setting an equal value
+     * leaves the entity clean, so only projects that changed are written.
+     */
+    private static boolean copy(Project seed, Project current) {
+        boolean changed = apply(current.getDescription(), seed.getDescription(), current::setDescription)
+                | apply(current.getCategory(), seed.getCategory(), current::setCategory)
+                | apply(current.getGithubUrl(), seed.getGithubUrl(), current::setGithubUrl)
+                | apply(current.getLiveUrl(), seed.getLiveUrl(), current::setLiveUrl)
+                | apply(current.getIconName(), seed.getIconName(), current::setIconName)
+                | apply(current.getGradientFrom(), seed.getGradientFrom(), current::setGradientFrom)
+                | apply(current.getGradientTo(), seed.getGradientTo(), current::setGradientTo)
+                | apply(current.getIsFeatured(), seed.getIsFeatured(), current::setIsFeatured)
+                | apply(current.getDisplayOrder(), seed.getDisplayOrder(), current::setDisplayOrder);
+        // Replacing the collection would rewrite every tag row, so only touch it when it differs.
+        // A persistent bag compares by identity, hence the copy.
+        if (!new ArrayList<>(current.getTags()).equals(seed.getTags())) {
+            current.getTags().clear();
+            current.getTags().addAll(seed.getTags());
+            changed = true;
+        }
+        return changed;
+    }
+
+    private static boolean copy(Skill seed, Skill current) {
+        return apply(current.getCategory(), seed.getCategory(), current::setCategory)
+                | apply(current.getLevel(), seed.getLevel(), current::setLevel)
+                | apply(current.getDisplayOrder(), seed.getDisplayOrder(), current::setDisplayOrder);
+    }
+
+    private static <T> boolean apply(T current, T seed, Consumer<T> setter) {
+        if (Objects.equals(current, seed)) {
+            return false;
+        }
+        setter.accept(seed);
+        return true;
+    }
 
-        log.info("Creating code repositories...");
+    private static boolean differs(CodeRepository current, CodeRepository seed) {
+        Long currentProject = current.getProject() == null ? null : current.getProject().getId();
+        Long seedProject = seed.getProject() == null ? null : seed.getProject().getId();
+        if (!Objects.equals(current.getDescription(), seed.getDescription())
+                || !Objects.equals(current.getGithubUrl(), seed.getGithubUrl())
+                || !Objects.equals(current.getDisplayOrder(), seed.getDisplayOrder())
+                || !Objects.equals(currentProject, seedProject)
+                || current.getFiles().size() != seed.getFiles().size()) {
+            return true;
+        }
+        Map<String, CodeRepository.CodeFile> files = current.getFiles().stream()
+                .collect(Collectors.toMap(CodeRepository.CodeFile::getFilePath, Function.identity(), (a, b) -> a));
+        for (CodeRepository.CodeFile file : seed.getFiles()) {
+            CodeRepository.CodeFile stored = files.get(file.getFilePath());
+            String content = file.getContent() == null ? "" : file.getContent();
+            if (stored == null
+                    || !Objects.equals(stored.getContentHash(), CodeRepository.CodeFile.hashContent(content))
+                    || !Objects.equals(stored.getFileName(), file.getFileName())
+                    || !Objects.equals(stored.getLanguage(), file.getLanguage())
+                    || !Objects.equals(stored.getLines(), file.getLines())) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        // Get projects from database
-        Project project3 = projectRepository.findById(3L).orElse(null); // Energy Education 3D Game
-        Project project4 = projectRepository.findById(4L).orElse(null); // Real-Time Data Pipeline
+    /**
+     * Inserts generated projects and skills with plain JDBC batches. Projects and
+     * skills use IDENTITY ids, which stops Hibernate from batching inserts, so
+     * large volumes bypass the persistence context. Chunks are written
+     * concurrently, each in its own transaction, and the synthetic tag is then
+     * attached to every generated project with one set-based statement.
+     * Generated rows are found by their {@code is_synthetic} flag, never by
+     * title, so real rows are left alone.
+     */
+    private void loadSyntheticRows() {
+        String checksum = sha256(("rows=" + syntheticRows).getBytes(StandardCharsets.UTF_8));
+        if (isApplied(SYNTHETIC_SEED, checksum)) {
+            log.info("Synthetic seed of {} rows already applied, skipping", syntheticRows);
+            return;
+        }
 
-        if (project3 != null && project4 != null) {
-            // Create repositories with project associations
-            codeRepositoryRepository.save(createRepository(project4));
-            codeRepositoryRepository.save(createRepository(project3));
-            log.info("Created code repositories for projects 3 and 4");
-        } else {
-            log.warn("Projects not found, skipping code repository initialization");
+        // Rows from an earlier, smaller synthetic load are kept; only the remainder is generated
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM projects WHERE is_synthetic = TRUE", Integer.class);
+        int firstRow = existing == null ? 0 : existing;
+
+        long start = System.nanoTime();
+        Project defaults = new Project();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Project.ProjectCategory[] projectCategories = Project.ProjectCategory.values();
+        Skill.SkillCategory[] skillCategories = Skill.SkillCategory.values();
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<CompletableFuture<Void>> chunks = new ArrayList<>();
+            for (int from = firstRow; from < syntheticRows; from += chunkSize) {
+                int chunkStart = from;
+                int chunkEnd = Math.min(syntheticRows, from + chunkSize);
+                chunks.add(CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+                    List<Object[]> projectRows = new ArrayList<>(chunkEnd - chunkStart);
+                    List<Object[]> skillRows = new ArrayList<>(chunkEnd - chunkStart);
+                    for (int i = chunkStart; i < chunkEnd; i++) {
+                        projectRows.add(new Object[]{
+                                "Synthetic Project " + i,
+                                "Generated project " + i + " for load testing.",
+                                projectCategories[i % projectCategories.length].name(),
+                                defaults.getGradientFrom(),
+                                defaults.getGradientTo(),
+                                false,
+                                1000 + i,
+                                now,
+                                now
+                        });
+                        skillRows.add(new Object[]{
+                                "Synthetic Skill " + i,
+                                skillCategories[i % skillCategories.length].name(),
+                                i % 101,
+                                1000 + i,
+                                now,
+                                now
+                        });
+                    }
+                    jdbcTemplate.batchUpdate(
+                            "INSERT INTO projects (title, description, category, gradient_from, gradient_to, is_featured, " +
+                            "display_order, created_at, updated_at, is_synthetic) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE)",
+                            projectRows);
+                    jdbcTemplate.batchUpdate(
+                            "INSERT INTO skills (name, category, level, display_order, created_at, updated_at, is_synthetic) " +
+                            "VALUES (?, ?, ?, ?, ?, ?, TRUE)", skillRows);
+                }), executor));
+            }
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
         }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(
+                    "INSERT INTO project_tags (project_id, tag) " +
+                    "SELECT p.id, ? FROM projects p WHERE p.is_synthetic = TRUE " +
+                    "AND NOT EXISTS (SELECT 1 FROM project_tags t WHERE t.project_id = p.id AND t.tag = ?)",
+                    SYNTHETIC_TAG, SYNTHETIC_TAG);
+            seedVersionRepository.save(new SeedVersion(SYNTHETIC_SEED, checksum, LocalDateTime.now()));
+        });
+        log.info("Inserted {} synthetic projects and skills in {} ms", Math.max(0, syntheticRows - firstRow), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private boolean isApplied(String name, String checksum) {
+        return seedVersionRepository.findById(name)
+                .map(version -> version.getChecksum().equals(checksum))
+                .orElse(false);
     }
 
-    private CodeRepository createRepository(Project project) {
-        CodeRepository repo = new CodeRepository();
-        repo.setProject(project);
-        
-        if (project.getId() == 3L) {
-            // Energy Education 3D Game
-            repo.setName("Energy Education 3D Game");
-            repo.setDescription("Interactive 3D educational game built with Three.js by a team of 6 developers. Features low-poly cartoon city with animated wind turbines, particle systems, procedural generation, and real-time shadows. Teaches renewable energy concepts through visual exploration.");
-            repo.setDisplayOrder(1);
-        } else if (project.getId() == 4L) {
-            // Real-Time Data Pipeline
-            repo.setName("Formula 1 Real-Time Processing Pipeline");
-            repo.setDescription("Real-time data pipeline processing Formula 1 pitstop data (1950-2024). Features continuous file monitoring, comprehensive F1-specific validation (35+ teams & circuits), feature engineering with 5 transformations, and dual-output storage (local + Azure Blob).");
-            repo.setDisplayOrder(1);
-        }
-        
-        return repo;
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
@@ -0,0 +1,112 @@
+package com.portfolio.service;
+
+import com.portfolio.domain.dto.CodeRepositorySummary;
+import com.portfolio.domain.dto.PortfolioView;
+import com.portfolio.domain.model.Project;
+import com.portfolio.domain.model.Skill;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the single-call portfolio view. Projects, skills and repositories are
+ * loaded in parallel on the application task executor, so each section runs
+ * in its own transaction on its own connection, and the call takes as long as
+ * the slowest section instead of the sum of all of them.
+ */
+@Service
+@Slf4j
+public class PortfolioService {
+
+    public enum Field {
+        PROJECTS,
+        FEATURED,
+        SKILLS,
+        REPOSITORIES;
+
+        public static Set<Field> parse(Collection<String> names) {
+            if (names == null || names.isEmpty()) {
+                return EnumSet.allOf(Field.class);
+            }
+            Set<Field> fields = EnumSet.noneOf(Field.class);
+            for (String name : names) {
+                if (!name.isBlank()) {
+                    fields.add(Field.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+                }
+            }
+            return fields.isEmpty() ? EnumSet.allOf(Field.class) : fields;
+        }
+    }
+
+    private final ProjectService projectService;
+    private final SkillService skillService;
+    private final CodeRepositoryService codeRepositoryService;
+    private final Executor executor;
+
+    public PortfolioService(ProjectService projectService, SkillService skillService,
+                            CodeRepositoryService codeRepositoryService,
+                            @Qualifier("applicationTaskExecutor") Executor executor) {
+        this.projectService = projectService;
+        this.skillService = skillService;
+        this.codeRepositoryService = codeRepositoryService;
+        this.executor = executor;
+    }
+
+    public PortfolioView getPortfolio(Set<Field> fields) {
+        CompletableFuture<List<Project>> projects = fields.contains(Field.PROJECTS)
+                ? load(projectService::getAllProjects)
+                : fields.contains(Field.FEATURED) ? load(projectService::getFeaturedProjects) : null;
+        CompletableFuture<List<Skill>> skills = fields.contains(Field.SKILLS)
+                ? load(skillService::getAllSkills) : null;
+        CompletableFuture<List<CodeRepositorySummary>> repositories = fields.contains(Field.REPOSITORIES)
+                ? load(codeRepositoryService::getAllRepositories) : null;
+
+        PortfolioView view = new PortfolioView();
+        if (projects != null) {
+            // Featured projects are a subset of the listing, so send their ids instead of the rows again
+            view.setProjects(join(projects));
+            if (fields.contains(Field.FEATURED)) {
+                view.setFeatured(view.getProjects().stream()
+                        .filter(project -> Boolean.TRUE.equals(project.getIsFeatured()))
+                        .map(Project::getId)
+                        .toList());
+            }
+        }
+        if (skills != null) {
+            view.setSkills(join(skills).stream().collect(Collectors.groupingBy(
+                    Skill::getCategory, () -> new EnumMap<>(Skill.SkillCategory.class), Collectors.toList())));
+        }
+        if (repositories != null) {
+            view.setRepositories(join(repositories));
+        }
+        return view;
+    }
+
+    private <T> CompletableFuture<T> load(Supplier<T> loader) {
+        return CompletableFuture.supplyAsync(loader, executor);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,409 @@
+package com.portfolio.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.portfolio.domain.dto.BatchItemResult;
+import com.portfolio.domain.dto.BatchResult;
+import com.portfolio.domain.dto.ImportResult;
+import com.portfolio.domain.model.CodeRepository;
+import com.portfolio.domain.model.ContactMessage;
+import com.portfolio.domain.model.Project;
+import com.portfolio.repository.CodeRepositoryRepository;
+import com.portfolio.repository.ContactMessageRepository;
+import com.portfolio.repository.ProjectRepository;
+import com.portfolio.repository.SkillRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Streams the whole dataset out as NDJSON and reads it back in.
+ * <p>
+ * Export walks each table in id order through a database cursor and writes
+ * one line per row. Every {@code chunk-size} lines the output is flushed and
+ * the persistence context cleared, so memory use does not grow with the
+ * dataset. Import parses the body one record at a time and hands runs of
+ * records of the same type to the batch writers, one transaction per chunk.
+ */
+@Service
+@Slf4j
+public class PortfolioTransferService {
+
+    private static final String CONTACT_INSERT_SQL =
+            "INSERT INTO contact_messages (name, email, message, is_read, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ProjectRepository projectRepository;
+    private final SkillRepository skillRepository;
+    private final CodeRepositoryRepository codeRepositoryRepository;
+    private final ContactMessageRepository contactMessageRepository;
+    private final ProjectService projectService;
+    private final SkillService skillService;
+    private final CodeRepositoryService codeRepositoryService;
+    private final CodeBlobStore codeBlobStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public PortfolioTransferService(ProjectRepository projectRepository,
+                                    SkillRepository skillRepository,
+                                    CodeRepositoryRepository codeRepositoryRepository,
+                                    ContactMessageRepository contactMessageRepository,
+                                    ProjectService projectService,
+                                    SkillService skillService,
+                                    CodeRepositoryService codeRepositoryService,
+                                    CodeBlobStore codeBlobStore,
+                                    JdbcTemplate jdbcTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    ObjectMapper objectMapper,
+                                    @Value("${portfolio.transfer.chunk-size:200}") int chunkSize) {
+        this.projectRepository = projectRepository;
+        this.skillRepository = skillRepository;
+        this.codeRepositoryRepository = codeRepositoryRepository;
+        this.contactMessageRepository = contactMessageRepository;
+        this.projectService = projectService;
+        this.skillService = skillService;
+        this.codeRepositoryService = codeRepositoryService;
+        this.codeBlobStore = codeBlobStore;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Where an export starts: after row {@code afterId} of {@code type}, with
+     * every later type exported in full. Parsed from {@code type:id}, the
+     * type and id of the last line received.
+     */
+    public record Position(TransferRecord.Type type, long afterId) {
+
+        public static final Position START = new Position(TransferRecord.Type.PROJECT, 0);
+
+        public static Position parse(String from) {
+            if (from == null || from.isBlank()) {
+                return START;
+            }
+            int separator = from.lastIndexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected type:id but got " + from);
+            }
+            TransferRecord.Type type = TransferRecord.Type.valueOf(
+                    from.substring(0, separator).trim().toUpperCase(Locale.ROOT));
+            return new Position(type, Long.parseLong(from.substring(separator + 1).trim()));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long export(OutputStream output, Position from) throws IOException {
+        LineWriter lines = new LineWriter(output, objectMapper.writerFor(TransferRecord.class));
+        for (TransferRecord.Type type : TransferRecord.Type.values()) {
+            if (type.ordinal() < from.type().ordinal()) {
+                continue;
+            }
+            long afterId = type == from.type() ? from.afterId() : 0;
+            switch (type) {
+                case PROJECT -> lines.writeAll(projectRepository.streamAfter(afterId), this::projectRecords);
+                case SKILL -> lines.writeAll(skillRepository.streamAfter(afterId), skills -> records(skills, skill -> {
+                    TransferRecord record = record(type, skill.getId());
+                    record.setSkill(skill);
+                    return record;
+                }));
+                case REPOSITORY -> lines.writeAll(codeRepositoryRepository.streamAfter(afterId), this::repositoryRecords);
+                case CONTACT_MESSAGE -> lines.writeAll(contactMessageRepository.streamAfter(afterId), messages ->
+                        records(messages, message -> {
+                            TransferRecord record = record(type, message.getId());
+                            record.setContactMessage(message);
+                            return record;
+                        }));
+            }
+        }
+        output.flush();
+        log.info("Exported {} records starting after {}:{}", lines.count, from.type(), from.afterId());
+        return lines.count;
+    }
+
+    private List<TransferRecord> projectRecords(List<Project> projects) {
+        // One fetch join initializes the tags of the whole chunk instead of one query per project
+        projectRepository.findByIdInOrderByDisplayOrderAsc(projects.stream().map(Project::getId).toList());
+        return records(projects, project -> {
+            TransferRecord record = record(TransferRecord.Type.PROJECT, project.getId());
+            record.setProject(project);
+            return record;
+        });
+    }
+
+    private List<TransferRecord> repositoryRecords(List<CodeRepository> repositories) {
+        // Files for the whole chunk in one query, bodies in another
+        codeRepositoryRepository.findByIdIn(repositories.stream().map(CodeRepository::getId).toList());
+        Map<String, String> contents = codeBlobStore.loadContents(repositories.stream()
+                .flatMap(repository -> repository.getFiles().stream())
+                .map(CodeRepository.CodeFile::getContentHash)
+                .collect(Collectors.toSet()));
+        return records(repositories, repository -> {
+            TransferRecord record = record(TransferRecord.Type.REPOSITORY, repository.getId());
+            record.setRepository(toSeedRepository(repository, contents));
+            return record;
+        });
+    }
+
+    /**
+     * Imports NDJSON records, ignoring the first {@code skip} lines. Records
+     * are appended: ids in the input are not reused, and repositories are
+     * attached to the project with the same title.
+     * <p>
+     * Runs of records of one type are written a chunk at a time, and a chunk
+     * is written completely or not at all. The import stops at the first chunk
+     * that cannot be written, and at a malformed line or an unreadable body.
+     * {@code committed} then counts the lines up to the last chunk written, so
+     * re-sending the body with {@code skip=committed} neither loses nor
+     * duplicates records.
+     */
+    public ImportResult importRecords(InputStream input, long skip) {
+        ImportResult result = new ImportResult();
+        result.setCommitted(skip);
+        List<TransferRecord> pending = new ArrayList<>(chunkSize);
+        long line = 0;
+        try (MappingIterator<TransferRecord> records = objectMapper.readerFor(TransferRecord.class).readValues(input)) {
+            while (records.hasNextValue()) {
+                TransferRecord record = records.nextValue();
+                line++;
+                if (line <= skip) {
+                    continue;
+                }
+                if (!pending.isEmpty() && (pending.get(0).getType() != record.getType() || pending.size() >= chunkSize)) {
+                    if (!flush(pending, line - pending.size(), result)) {
+                        return finish(result);
+                    }
+                    result.setCommitted(line - 1);
+                }
+                pending.add(record);
+            }
+        } catch (JsonProcessingException e) {
+            result.fail("Line " + (line + 1) + ": " + e.getOriginalMessage());
+        } catch (IOException e) {
+            // A dropped connection or truncated gzip: what was parsed before it is still written
+            result.fail("Body unreadable after line " + line + ": " + e.getMessage());
+        }
+        if (pending.isEmpty() || flush(pending, line - pending.size() + 1, result)) {
+            result.setCommitted(Math.max(skip, line));
+        }
+        return finish(result);
+    }
+
+    private ImportResult finish(ImportResult result) {
+        log.info("Imported {} up to line {}{}", result.getImported(), result.getCommitted(),
+                result.isComplete() ? "" : ", stopped: " + result.getErrors());
+        return result;
+    }
+
+    /**
+     * Writes one chunk of records of the same type. Returns whether all of it
+     * was written; if not, nothing was and the import is marked incomplete.
+     */
+    private boolean flush(List<TransferRecord> records, long firstLine, ImportResult result) {
+        TransferRecord.Type type = records.get(0).getType();
+        boolean written;
+        if (type == null) {
+            result.addError("Line " + firstLine + ": record without a type");
+            written = false;
+        } else {
+            written = switch (type) {
+                case PROJECT -> count(type, projectService.createProjects(
+                        payloads(records, TransferRecord::getProject)), records.size(), firstLine, result);
+                case SKILL -> count(type, skillService.createSkills(
+                        payloads(records, TransferRecord::getSkill)), records.size(), firstLine, result);
+                case REPOSITORY -> count(type, codeRepositoryService.createRepositories(
+                        toRepositories(records, firstLine, result)), records.size(), firstLine, result);
+                case CONTACT_MESSAGE -> insertContactMessages(payloads(records, TransferRecord::getContactMessage),
+                        firstLine, result);
+            };
+        }
+        if (!written) {
+            result.setFailed(result.getFailed() + records.size());
+            result.setComplete(false);
+        }
+        records.clear();
+        // With open-in-view the request's persistence context outlives each chunk's transaction
+        entityManager.clear();
+        return written;
+    }
+
+    private boolean count(TransferRecord.Type type, BatchResult batch, int size, long firstLine, ImportResult result) {
+        // An invalid item rejects the whole chunk and a failure rolls it back, so a chunk is all or nothing
+        boolean written = !batch.hasInvalidItems() && batch.getSucceeded() == size;
+        if (written) {
+            result.getImported().merge(type.name(), (long) size, Long::sum);
+        }
+        for (BatchItemResult item : batch.getItems()) {
+            if (!item.isSucceeded()) {
+                result.addError("Line " + (firstLine + item.getIndex()) + ": " + item.getStatus()
+                        + (item.getErrors().isEmpty() ? "" : " " + item.getErrors()));
+            }
+        }
+        return written;
+    }
+
+    private List<CodeRepository> toRepositories(List<TransferRecord> records, long firstLine, ImportResult result) {
+        Set<String> titles = records.stream()
+                .map(TransferRecord::getRepository)
+                .filter(Objects::nonNull)
+                .map(SeedDataset.SeedRepository::getProjectTitle)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, Project> projectsByTitle = new HashMap<>();
+        if (!titles.isEmpty()) {
+            projectRepository.findByTitleIn(titles).forEach(project -> projectsByTitle.putIfAbsent(project.getTitle(), project));
+        }
+
+        List<CodeRepository> repositories = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            SeedDataset.SeedRepository seed = records.get(i).getRepository();
+            if (seed == null) {
+                repositories.add(null);
+                continue;
+            }
+            CodeRepository repository = new CodeRepository();
+            repository.setName(seed.getName());
+            repository.setDescription(seed.getDescription());
+            repository.setGithubUrl(seed.getGithubUrl());
+            repository.setDisplayOrder(seed.getDisplayOrder());
+            if (seed.getProjectTitle() != null) {
+                repository.setProject(projectsByTitle.get(seed.getProjectTitle()));
+                if (repository.getProject() == null) {
+                    result.addError("Line " + (firstLine + i) + ": unknown project '" + seed.getProjectTitle()
+                            + "', imported without a project");
+                }
+            }
+            for (CodeRepository.CodeFile file : seed.getFiles()) {
+                file.setId(null);
+                repository.addFile(file);
+            }
+            repositories.add(repository);
+        }
+        return repositories;
+    }
+
+    /**
+     * Contact messages keep their read flag and timestamp, so they are written
+     * with a plain JDBC batch like the ingestion writer does.
+     */
+    private boolean insertContactMessages(List<ContactMessage> messages, long firstLine, ImportResult result) {
+        if (messages.contains(null)) {
+            result.addError("Line " + firstLine + ": contact record without a payload in this chunk");
+            return false;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(CONTACT_INSERT_SQL, messages,
+                    messages.size(), (ps, message) -> {
+                        ps.setString(1, message.getName());
+                        ps.setString(2, message.getEmail());
+                        ps.setString(3, message.getMessage());
+                        ps.setBoolean(4, Boolean.TRUE.equals(message.getIsRead()));
+                        ps.setTimestamp(5, message.getCreatedAt() == null ? now : Timestamp.valueOf(message.getCreatedAt()));
+                    }));
+        } catch (RuntimeException e) {
+            log.warn("Contact message chunk at line {} rolled back: {}", firstLine, e.getMessage());
+            result.addError("Line " + firstLine + ": contact messages rolled back: " + e.getMessage());
+            return false;
+        }
+        result.getImported().merge(TransferRecord.Type.CONTACT_MESSAGE.name(), (long) messages.size(), Long::sum);
+        return true;
+    }
+
+    private static SeedDataset.SeedRepository toSeedRepository(CodeRepository repository, Map<String, String> contents) {
+        SeedDataset.SeedRepository seed = new SeedDataset.SeedRepository();
+        seed.setProjectTitle(repository.getProject() == null ? null : repository.getProject().getTitle());
+        seed.setName(repository.getName());
+        seed.setDescription(repository.getDescription());
+        seed.setGithubUrl(repository.getGithubUrl());
+        seed.setDisplayOrder(repository.getDisplayOrder());
+        repository.getFiles().forEach(file -> file.setContent(contents.get(file.getContentHash())));
+        seed.setFiles(repository.getFiles());
+        return seed;
+    }
+
+    private static <T> List<TransferRecord> records(List<T> rows, Function<T, TransferRecord> toRecord) {
+        List<TransferRecord> records = new ArrayList<>(rows.size());
+        rows.forEach(row -> records.add(toRecord.apply(row)));
+        return records;
+    }
+
+    private static <T> List<T> payloads(List<TransferRecord> records, Function<TransferRecord, T> payload) {
+        List<T> items = new ArrayList<>(records.size());
+        records.forEach(record -> items.add(payload.apply(record)));
+        return items;
+    }
+
+    private static TransferRecord record(TransferRecord.Type type, Long id) {
+        TransferRecord record = new TransferRecord();
+        record.setType(type);
+        record.setId(id);
+        return record;
+    }
+
+    private final class LineWriter {
+
+        private final OutputStream output;
+        private final ObjectWriter writer;
+        private long count;
+
+        LineWriter(OutputStream output, ObjectWriter writer) {
+            this.output = output;
+            this.writer = writer;
+        }
+
+        /**
+         * Writes rows a chunk at a time: each chunk is converted in one go, so
+         * associations can be fetched for the whole chunk, then written,
+         * flushed and cleared from the persistence context.
+         */
+        <T> void writeAll(Stream<T> rows, Function<List<T>, List<TransferRecord>> toRecords) throws IOException {
+            try (rows) {
+                Iterator<T> iterator = rows.iterator();
+                List<T> chunk = new ArrayList<>(chunkSize);
+                while (iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                    if (chunk.size() == chunkSize || !iterator.hasNext()) {
+                        for (TransferRecord record : toRecords.apply(chunk)) {
+                            output.write(writer.writeValueAsBytes(record));
+                            output.write('\n');
+                        }
+                        count += chunk.size();
+                        chunk.clear();
+                        output.flush();
+                        entityManager.clear();
+                    }
+                }
+            }
+        }
+    }
+}
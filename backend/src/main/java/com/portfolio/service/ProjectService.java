@@ -1,14 +1,24 @@
 package com.portfolio.service;
 
+import com.portfolio.config.CacheConfig;
+import com.portfolio.domain.dto.BatchItemResult;
+import com.portfolio.domain.dto.BatchResult;
 import com.portfolio.domain.model.Project;
 import com.portfolio.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -16,43 +26,122 @@ import java.util.Optional;
 @Transactional
 public class ProjectService {
 
+    // Cleared by every batch chunk as it commits
+    private static final List<String> BATCH_CACHES =
+            List.of(CacheConfig.PROJECTS, CacheConfig.PROJECT, CacheConfig.REPOSITORY);
+
     private final ProjectRepository projectRepository;
+    private final ProjectTagIndex projectTagIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BatchWriter batchWriter;
 
     public List<Project> getAllProjects() {
-        log.debug("Fetching all projects");
         return projectRepository.findAllByOrderByDisplayOrderAsc();
     }
 
     public List<Project> getFeaturedProjects() {
-        log.debug("Fetching featured projects");
         return projectRepository.findByIsFeaturedTrueOrderByDisplayOrderAsc();
     }
 
     public List<Project> getProjectsByCategory(Project.ProjectCategory category) {
-        log.debug("Fetching projects by category: {}", category);
         return projectRepository.findByCategoryOrderByDisplayOrderAsc(category);
     }
 
-    public List<Project> getProjectsByTag(String tag) {
-        log.debug("Fetching projects by tag: {}", tag);
-        return projectRepository.findByTagsContainingIgnoreCaseOrderByDisplayOrderAsc(tag);
+    @Cacheable(value = CacheConfig.PROJECTS, key = "'tag:' + #prefix + ':' + #tag.toLowerCase()")
+    public List<Project> getProjectsByTag(String tag, boolean prefix) {
+        return findByIds(projectTagIndex.find(tag, prefix));
+    }
+
+    public List<Project> getProjectsByTags(Collection<String> tags, boolean matchAll, boolean prefix) {
+        return findByIds(matchAll ? projectTagIndex.findAll(tags, prefix) : projectTagIndex.findAny(tags, prefix));
     }
 
+    private List<Project> findByIds(Set<Long> ids) {
+        return ids.isEmpty() ? List.of() : projectRepository.findByIdInOrderByDisplayOrderAsc(ids);
+    }
+
+    @Cacheable(value = CacheConfig.PROJECT, key = "#id", unless = "#result == null")
     public Optional<Project> getProjectById(Long id) {
-        log.debug("Fetching project with id: {}", id);
         return projectRepository.findById(id);
     }
 
+    @CacheEvict(value = CacheConfig.PROJECTS, allEntries = true)
     public Project createProject(Project project) {
         log.info("Creating new project: {}", project.getTitle());
-        return projectRepository.save(project);
+        Project savedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new CatalogueChangedEvent(CatalogueChangedEvent.Type.PROJECT, savedProject.getId()));
+        return savedProject;
     }
 
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.PROJECTS, allEntries = true),
+            @CacheEvict(value = CacheConfig.PROJECT, key = "#id"),
+            @CacheEvict(value = CacheConfig.REPOSITORY, allEntries = true)
+    })
     public Project updateProject(Long id, Project projectDetails) {
         log.info("Updating project with id: {}", id);
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Project not found with id: " + id));
 
+        copyDetails(project, projectDetails);
+
+        Project savedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new CatalogueChangedEvent(CatalogueChangedEvent.Type.PROJECT, id));
+        return savedProject;
+    }
+
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.PROJECTS, allEntries = true),
+            @CacheEvict(value = CacheConfig.PROJECT, key = "#id"),
+            @CacheEvict(value = CacheConfig.REPOSITORY, allEntries = true)
+    })
+    public void deleteProject(Long id) {
+        log.info("Deleting project with id: {}", id);
+        projectRepository.deleteById(id);
+        eventPublisher.publishEvent(new CatalogueChangedEvent(CatalogueChangedEvent.Type.PROJECT, id));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResult createProjects(List<Project> projects) {
+        log.info("Creating {} projects in batch", projects.size());
+        return batchWriter.write(projects, CatalogueChangedEvent.Type.PROJECT, BATCH_CACHES, (index, project) -> {
+            project.setId(null);
+            Project savedProject = projectRepository.save(project);
+            return BatchItemResult.of(index, savedProject.getId(), BatchItemResult.Status.CREATED);
+        });
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResult updateProjects(List<Project> projects) {
+        log.info("Updating {} projects in batch", projects.size());
+        return batchWriter.write(projects, Project::getId, CatalogueChangedEvent.Type.PROJECT, BATCH_CACHES, (index, details) ->
+                projectRepository.findById(details.getId())
+                        .map(project -> {
+                            copyDetails(project, details);
+                            return BatchItemResult.of(index, project.getId(), BatchItemResult.Status.UPDATED);
+                        })
+                        .orElseGet(() -> BatchItemResult.of(index, details.getId(), BatchItemResult.Status.NOT_FOUND)));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResult deleteProjects(List<Long> ids) {
+        log.info("Deleting {} projects in batch", ids.size());
+        return batchWriter.write(ids, CatalogueChangedEvent.Type.PROJECT, BATCH_CACHES, (index, id) -> {
+            if (!projectRepository.existsById(id)) {
+                return BatchItemResult.of(index, id, BatchItemResult.Status.NOT_FOUND);
+            }
+            projectRepository.deleteById(id);
+            return BatchItemResult.of(index, id, BatchItemResult.Status.DELETED);
+        });
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResult reorderProjects(List<Long> ids) {
+        log.info("Reordering {} projects", ids.size());
+        return batchWriter.reorder(Project.class, CatalogueChangedEvent.Type.PROJECT, BATCH_CACHES, ids);
+    }
+
+    private static void copyDetails(Project project, Project projectDetails) {
         project.setTitle(projectDetails.getTitle());
         project.setDescription(projectDetails.getDescription());
         project.setCategory(projectDetails.getCategory());
@@ -64,12 +153,5 @@ public class ProjectService {
         project.setGradientTo(projectDetails.getGradientTo());
         project.setIsFeatured(projectDetails.getIsFeatured());
         project.setDisplayOrder(projectDetails.getDisplayOrder());
-
-        return projectRepository.save(project);
-    }
-
-    public void deleteProject(Long id) {
-        log.info("Deleting project with id: {}", id);
-        projectRepository.deleteById(id);
     }
 }
@@ -0,0 +1,122 @@
+package com.portfolio.service;
+
+import com.portfolio.domain.model.Project;
+import com.portfolio.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory inverted index from lower-cased tag to project ids. Built once at
+ * startup and kept current from committed project writes, so tag queries never
+ * scan the project_tags table.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectTagIndex {
+
+    private final ProjectRepository projectRepository;
+
+    private final NavigableMap<String, Set<Long>> projectIdsByTag = new ConcurrentSkipListMap<>();
+    private final Map<Long, Set<String>> tagsByProjectId = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        projectIdsByTag.clear();
+        tagsByProjectId.clear();
+        projectRepository.findAllByOrderByDisplayOrderAsc().forEach(this::index);
+        log.info("Indexed {} tags across {} projects", projectIdsByTag.size(), tagsByProjectId.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogueChanged(CatalogueChangedEvent event) {
+        if (event.getType() != CatalogueChangedEvent.Type.PROJECT) {
+            return;
+        }
+        if (event.isBulk()) {
+            rebuild();
+            return;
+        }
+        Set<Long> deleted = new HashSet<>(event.getIds());
+        for (Project project : projectRepository.findByIdInOrderByDisplayOrderAsc(event.getIds())) {
+            deleted.remove(project.getId());
+            index(project);
+        }
+        deleted.forEach(this::remove);
+    }
+
+    public synchronized void index(Project project) {
+        remove(project.getId());
+        Set<String> tags = project.getTags().stream()
+                .map(ProjectTagIndex::normalize)
+                .collect(Collectors.toUnmodifiableSet());
+        tagsByProjectId.put(project.getId(), tags);
+        tags.forEach(tag -> projectIdsByTag.computeIfAbsent(tag, key -> ConcurrentHashMap.newKeySet()).add(project.getId()));
+    }
+
+    public synchronized void remove(Long projectId) {
+        Set<String> tags = tagsByProjectId.remove(projectId);
+        if (tags == null) {
+            return;
+        }
+        for (String tag : tags) {
+            Set<Long> ids = projectIdsByTag.get(tag);
+            if (ids != null) {
+                ids.remove(projectId);
+                if (ids.isEmpty()) {
+                    projectIdsByTag.remove(tag);
+                }
+            }
+        }
+    }
+
+    public Set<Long> find(String tag, boolean prefix) {
+        String key = normalize(tag);
+        if (!prefix) {
+            return Set.copyOf(projectIdsByTag.getOrDefault(key, Set.of()));
+        }
+        Set<Long> ids = new HashSet<>();
+        projectIdsByTag.subMap(key, true, key + Character.MAX_VALUE, true).values().forEach(ids::addAll);
+        return ids;
+    }
+
+    public Set<Long> findAll(Collection<String> tags, boolean prefix) {
+        Set<Long> ids = null;
+        for (String tag : tags) {
+            Set<Long> matches = find(tag, prefix);
+            if (ids == null) {
+                ids = new HashSet<>(matches);
+            } else {
+                ids.retainAll(matches);
+            }
+            if (ids.isEmpty()) {
+                break;
+            }
+        }
+        return ids == null ? Set.of() : ids;
+    }
+
+    public Set<Long> findAny(Collection<String> tags, boolean prefix) {
+        Set<Long> ids = new HashSet<>();
+        tags.forEach(tag -> ids.addAll(find(tag, prefix)));
+        return ids;
+    }
+
+    private static String normalize(String tag) {
+        return tag.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,55 @@
+package com.portfolio.service;
+
+import com.portfolio.domain.dto.CodeRepositorySummary;
+import com.portfolio.domain.model.Project;
+import com.portfolio.domain.model.Skill;
+import com.portfolio.repository.ReactiveCodeRepositoryRepository;
+import com.portfolio.repository.ReactiveProjectRepository;
+import com.portfolio.repository.ReactiveSkillRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * Catalogue reads on the R2DBC pool. Same shapes as {@link ProjectService},
+ * {@link SkillService} and {@link CodeRepositoryService}, streamed row by row
+ * instead of materialized in a transaction; nothing is cached here.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "portfolio.reactive.enabled", havingValue = "true", matchIfMissing = true)
+public class ReactiveCatalogueService {
+
+    private final ReactiveProjectRepository projectRepository;
+    private final ReactiveSkillRepository skillRepository;
+    private final ReactiveCodeRepositoryRepository codeRepositoryRepository;
+
+    public Flux<Project> getAllProjects() {
+        return projectRepository.findAllByOrderByDisplayOrderAsc();
+    }
+
+    public Flux<Project> getFeaturedProjects() {
+        return projectRepository.findByIsFeaturedTrueOrderByDisplayOrderAsc();
+    }
+
+    public Flux<Project> getProjectsByCategory(Project.ProjectCategory category) {
+        return projectRepository.findByCategoryOrderByDisplayOrderAsc(category);
+    }
+
+    public Flux<Skill> getAllSkills() {
+        return skillRepository.findAllByOrderByDisplayOrderAsc();
+    }
+
+    public Flux<Skill> getSkillsByCategory(Skill.SkillCategory category) {
+        return skillRepository.findByCategoryOrderByDisplayOrderAsc(category);
+    }
+
+    public Flux<CodeRepositorySummary> getAllRepositories() {
+        return codeRepositoryRepository.findAllSummaries();
+    }
+
+    public Flux<CodeRepositorySummary> getRepositoriesByProjectId(Long projectId) {
+        return codeRepositoryRepository.findSummariesByProjectId(projectId);
+    }
+}
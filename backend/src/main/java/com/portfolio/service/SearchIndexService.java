@@ -0,0 +1,301 @@
+package com.portfolio.service;
+
+import com.portfolio.domain.dto.SearchResult;
+import com.portfolio.domain.model.CodeRepository;
+import com.portfolio.domain.model.Project;
+import com.portfolio.domain.model.Skill;
+import com.portfolio.repository.CodeRepositoryRepository;
+import com.portfolio.repository.ProjectRepository;
+import com.portfolio.repository.SkillRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index over project titles, descriptions and tags, skill
+ * names and code file contents. Documents are added, replaced and removed one
+ * at a time from committed catalogue writes. A bulk change (reload, import)
+ * re-indexes every entity of its type and drops the documents of entities
+ * that no longer exist.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexService {
+
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}_]{2,}");
+    private static final int TITLE_WEIGHT = 3;
+    private static final int SNIPPET_BEFORE = 60;
+    private static final int SNIPPET_AFTER = 120;
+
+    private final ProjectRepository projectRepository;
+    private final SkillRepository skillRepository;
+    private final CodeRepositoryRepository codeRepositoryRepository;
+    private final CodeBlobStore codeBlobStore;
+
+    private final Map<String, IndexedDocument> documents = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Integer>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> fileKeysByRepository = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        projectRepository.findAllByOrderByDisplayOrderAsc().forEach(this::indexProject);
+        skillRepository.findAll().forEach(this::indexSkill);
+        codeRepositoryRepository.findAllByOrderByDisplayOrderAsc().forEach(this::indexRepository);
+        log.info("Search index built with {} documents and {} terms", documents.size(), postings.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogueChanged(CatalogueChangedEvent event) {
+        List<Long> ids = event.getIds();
+        switch (event.getType()) {
+            case PROJECT -> {
+                if (event.isBulk()) {
+                    Set<Long> indexed = indexedIds("project");
+                    reindex(indexed, projectRepository.findAllByOrderByDisplayOrderAsc(), Project::getId,
+                            this::indexProject, id -> removeDocument(projectKey(id)));
+                } else {
+                    reindex(ids, projectRepository.findByIdInOrderByDisplayOrderAsc(ids), Project::getId,
+                            this::indexProject, id -> removeDocument(projectKey(id)));
+                }
+            }
+            case SKILL -> {
+                if (event.isBulk()) {
+                    Set<Long> indexed = indexedIds("skill");
+                    reindex(indexed, skillRepository.findAll(), Skill::getId,
+                            this::indexSkill, id -> removeDocument(skillKey(id)));
+                } else {
+                    reindex(ids, skillRepository.findAllById(ids), Skill::getId,
+                            this::indexSkill, id -> removeDocument(skillKey(id)));
+                }
+            }
+            case REPOSITORY -> {
+                if (event.isBulk()) {
+                    Set<Long> indexed = Set.copyOf(fileKeysByRepository.keySet());
+                    reindex(indexed, codeRepositoryRepository.findAllByOrderByDisplayOrderAsc(), CodeRepository::getId,
+                            this::indexRepository, this::removeRepository);
+                } else {
+                    reindex(ids, codeRepositoryRepository.findByIdIn(ids), CodeRepository::getId,
+                            this::indexRepository, this::removeRepository);
+                }
+            }
+        }
+    }
+
+    /**
+     * Indexes the entities that still exist and removes the ones among
+     * {@code ids} that were not found. For a bulk change {@code ids} are the
+     * ones indexed before the entities were loaded, so a document added
+     * meanwhile by another change is kept.
+     */
+    private static <T> void reindex(Collection<Long> ids, List<T> found, Function<T, Long> idOf,
+                                    Consumer<T> index, Consumer<Long> remove) {
+        Set<Long> missing = new HashSet<>(ids);
+        for (T entity : found) {
+            missing.remove(idOf.apply(entity));
+            index.accept(entity);
+        }
+        missing.forEach(remove);
+    }
+
+    private Set<Long> indexedIds(String type) {
+        Set<Long> ids = new HashSet<>();
+        documents.values().forEach(document -> {
+            if (document.type().equals(type)) {
+                ids.add(document.id());
+            }
+        });
+        return ids;
+    }
+
+    public List<SearchResult> search(String query, int limit) {
+        List<String> terms = List.copyOf(new LinkedHashSet<>(tokenize(query)));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Double> scores = new HashMap<>();
+        int documentCount = Math.max(documents.size(), 1);
+        for (String term : terms) {
+            Map<String, Integer> matches = postings.get(term);
+            if (matches == null) {
+                continue;
+            }
+            double idf = Math.log(1.0 + (double) documentCount / matches.size());
+            matches.forEach((key, frequency) ->
+                    scores.merge(key, (1.0 + Math.log(frequency)) * idf, Double::sum));
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(entry -> toResult(documents.get(entry.getKey()), entry.getValue(), terms))
+                .filter(result -> result != null)
+                .toList();
+    }
+
+    private void indexProject(Project project) {
+        StringJoiner body = new StringJoiner(" ");
+        if (project.getDescription() != null) {
+            body.add(project.getDescription());
+        }
+        if (project.getTags() != null) {
+            project.getTags().stream().filter(Objects::nonNull).forEach(body::add);
+        }
+        addDocument(projectKey(project.getId()),
+                new IndexedDocument("project", project.getId(), null, null, project.getTitle(), body.toString()));
+    }
+
+    private void indexSkill(Skill skill) {
+        addDocument(skillKey(skill.getId()),
+                new IndexedDocument("skill", skill.getId(), null, null, skill.getName(), ""));
+    }
+
+    private synchronized void indexRepository(CodeRepository repository) {
+        removeRepository(repository.getId());
+        Set<String> fileKeys = ConcurrentHashMap.newKeySet();
+        Map<String, String> contents = codeBlobStore.loadContents(
+                repository.getFiles().stream().map(CodeRepository.CodeFile::getContentHash).toList());
+        for (CodeRepository.CodeFile file : repository.getFiles()) {
+            String key = "file:" + repository.getId() + ":" + file.getFilePath();
+            String content = contents.getOrDefault(file.getContentHash(), "");
+            addDocument(key, new IndexedDocument("file", null, repository.getId(), file.getFilePath(),
+                    file.getFileName(), content));
+            fileKeys.add(key);
+        }
+        fileKeysByRepository.put(repository.getId(), fileKeys);
+    }
+
+    private synchronized void removeRepository(Long repositoryId) {
+        Set<String> fileKeys = fileKeysByRepository.remove(repositoryId);
+        if (fileKeys != null) {
+            fileKeys.forEach(this::removeDocument);
+        }
+    }
+
+    private synchronized void addDocument(String key, IndexedDocument document) {
+        removeDocument(key);
+        documents.put(key, document);
+        document.termFrequencies().forEach((term, frequency) ->
+                postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(key, frequency));
+    }
+
+    private synchronized void removeDocument(String key) {
+        IndexedDocument previous = documents.remove(key);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.termFrequencies().keySet()) {
+            Map<String, Integer> matches = postings.get(term);
+            if (matches != null) {
+                matches.remove(key);
+                if (matches.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private SearchResult toResult(IndexedDocument document, double score, List<String> terms) {
+        if (document == null) {
+            return null;
+        }
+        String source = document.body().isEmpty() ? document.title() : document.body();
+        return new SearchResult(document.type(), document.id(), document.repositoryId(), document.filePath(),
+                document.title(), snippet(source, terms), score);
+    }
+
+    /**
+     * A window of {@code text} around the first matching term, HTML-escaped,
+     * with every term occurrence wrapped in {@code <mark>}. Matches are found
+     * on the raw text and each segment is escaped separately, so a term can
+     * neither match inside an entity nor shift offsets the way lowercasing can.
+     */
+    private static String snippet(String text, List<String> terms) {
+        Matcher matcher = terms.isEmpty() ? null : Pattern.compile(
+                String.join("|", terms.stream().map(Pattern::quote).toList()),
+                Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE).matcher(text);
+        int first = matcher != null && matcher.find() ? matcher.start() : 0;
+        int start = Math.max(0, first - SNIPPET_BEFORE);
+        int end = Math.min(text.length(), first + SNIPPET_AFTER);
+        // Never split a surrogate pair at either edge
+        if (start > 0 && Character.isLowSurrogate(text.charAt(start))) {
+            start--;
+        }
+        if (end < text.length() && Character.isLowSurrogate(text.charAt(end))) {
+            end++;
+        }
+
+        StringBuilder marked = new StringBuilder(end - start + 32);
+        int position = start;
+        if (matcher != null) {
+            matcher.region(start, end);
+            while (matcher.find()) {
+                marked.append(HtmlUtils.htmlEscape(text.substring(position, matcher.start())))
+                        .append("<mark>")
+                        .append(HtmlUtils.htmlEscape(matcher.group()))
+                        .append("</mark>");
+                position = matcher.end();
+            }
+        }
+        marked.append(HtmlUtils.htmlEscape(text.substring(position, end)));
+        return (start > 0 ? "…" : "") + marked + (end < text.length() ? "…" : "");
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        Matcher matcher = TOKEN.matcher(text.toLowerCase(Locale.ROOT));
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+        return tokens;
+    }
+
+    private static String projectKey(Long id) {
+        return "project:" + id;
+    }
+
+    private static String skillKey(Long id) {
+        return "skill:" + id;
+    }
+
+    private record IndexedDocument(String type, Long id, Long repositoryId, String filePath,
+                                   String title, String body, Map<String, Integer> termFrequencies) {
+
+        IndexedDocument(String type, Long id, Long repositoryId, String filePath, String title, String body) {
+            this(type, id, repositoryId, filePath, title, body, frequencies(title, body));
+        }
+
+        private static Map<String, Integer> frequencies(String title, String body) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            tokenize(title).forEach(term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+            tokenize(body).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+            return frequencies;
+        }
+    }
+}
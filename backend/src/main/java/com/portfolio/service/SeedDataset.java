@@ -0,0 +1,41 @@
+package com.portfolio.service;
+
+import com.portfolio.domain.model.CodeRepository;
+import com.portfolio.domain.model.Project;
+import com.portfolio.domain.model.Skill;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shape of {@code seed/portfolio-seed.json}. Repositories reference their
+ * project by title because ids are assigned by the database.
+ */
+@Data
+public class SeedDataset {
+
+    private int version;
+
+    private List<Project> projects = new ArrayList<>();
+
+    private List<Skill> skills = new ArrayList<>();
+
+    private List<SeedRepository> repositories = new ArrayList<>();
+
+    @Data
+    public static class SeedRepository {
+
+        private String projectTitle;
+
+        private String name;
+
+        private String description;
+
+        private String githubUrl;
+
+        private Integer displayOrder = 0;
+
+        private List<CodeRepository.CodeFile> files = new ArrayList<>();
+    }
+}
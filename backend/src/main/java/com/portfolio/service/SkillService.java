@@ -1,10 +1,17 @@
 package com.portfolio.service;
 
+import com.portfolio.config.CacheConfig;
+import com.portfolio.domain.dto.BatchItemResult;
+import com.portfolio.domain.dto.BatchResult;
 import com.portfolio.domain.model.Skill;
 import com.portfolio.repository.SkillRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -16,43 +23,97 @@ import java.util.Optional;
 @Transactional
 public class SkillService {
 
+    // Cleared by every batch chunk as it commits
+    private static final List<String> BATCH_CACHES = List.of(CacheConfig.SKILL);
+
     private final SkillRepository skillRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BatchWriter batchWriter;
 
     public List<Skill> getAllSkills() {
-        log.debug("Fetching all skills");
         return skillRepository.findAllByOrderByDisplayOrderAsc();
     }
 
     public List<Skill> getSkillsByCategory(Skill.SkillCategory category) {
-        log.debug("Fetching skills by category: {}", category);
         return skillRepository.findByCategoryOrderByDisplayOrderAsc(category);
     }
 
+    @Cacheable(value = CacheConfig.SKILL, key = "#id", unless = "#result == null")
     public Optional<Skill> getSkillById(Long id) {
-        log.debug("Fetching skill with id: {}", id);
         return skillRepository.findById(id);
     }
 
     public Skill createSkill(Skill skill) {
         log.info("Creating new skill: {}", skill.getName());
-        return skillRepository.save(skill);
+        Skill savedSkill = skillRepository.save(skill);
+        eventPublisher.publishEvent(new CatalogueChangedEvent(CatalogueChangedEvent.Type.SKILL, savedSkill.getId()));
+        return savedSkill;
     }
 
+    @CacheEvict(value = CacheConfig.SKILL, key = "#id")
     public Skill updateSkill(Long id, Skill skillDetails) {
         log.info("Updating skill with id: {}", id);
         Skill skill = skillRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Skill not found with id: " + id));
 
-        skill.setName(skillDetails.getName());
-        skill.setCategory(skillDetails.getCategory());
-        skill.setLevel(skillDetails.getLevel());
-        skill.setDisplayOrder(skillDetails.getDisplayOrder());
+        copyDetails(skill, skillDetails);
 
-        return skillRepository.save(skill);
+        Skill savedSkill = skillRepository.save(skill);
+        eventPublisher.publishEvent(new CatalogueChangedEvent(CatalogueChangedEvent.Type.SKILL, id));
+        return savedSkill;
     }
 
+    @CacheEvict(value = CacheConfig.SKILL, key = "#id")
     public void deleteSkill(Long id) {
         log.info("Deleting skill with id: {}", id);
         skillRepository.deleteById(id);
+        eventPublisher.publishEvent(new CatalogueChangedEvent(CatalogueChangedEvent.Type.SKILL, id));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResult createSkills(List<Skill> skills) {
+        log.info("Creating {} skills in batch", skills.size());
+        return batchWriter.write(skills, CatalogueChangedEvent.Type.SKILL, BATCH_CACHES, (index, skill) -> {
+            skill.setId(null);
+            Skill savedSkill = skillRepository.save(skill);
+            return BatchItemResult.of(index, savedSkill.getId(), BatchItemResult.Status.CREATED);
+        });
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResult updateSkills(List<Skill> skills) {
+        log.info("Updating {} skills in batch", skills.size());
+        return batchWriter.write(skills, Skill::getId, CatalogueChangedEvent.Type.SKILL, BATCH_CACHES, (index, details) ->
+                skillRepository.findById(details.getId())
+                        .map(skill -> {
+                            copyDetails(skill, details);
+                            return BatchItemResult.of(index, skill.getId(), BatchItemResult.Status.UPDATED);
+                        })
+                        .orElseGet(() -> BatchItemResult.of(index, details.getId(), BatchItemResult.Status.NOT_FOUND)));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResult deleteSkills(List<Long> ids) {
+        log.info("Deleting {} skills in batch", ids.size());
+        return batchWriter.write(ids, CatalogueChangedEvent.Type.SKILL, BATCH_CACHES, (index, id) -> {
+            if (!skillRepository.existsById(id)) {
+                return BatchItemResult.of(index, id, BatchItemResult.Status.NOT_FOUND);
+            }
+            skillRepository.deleteById(id);
+            return BatchItemResult.of(index, id, BatchItemResult.Status.DELETED);
+        });
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResult reorderSkills(List<Long> ids) {
+        log.info("Reordering {} skills", ids.size());
+        return batchWriter.reorder(Skill.class, CatalogueChangedEvent.Type.SKILL, BATCH_CACHES, ids);
+    }
+
+    private static void copyDetails(Skill skill, Skill skillDetails) {
+        skill.setName(skillDetails.getName());
+        skill.setCategory(skillDetails.getCategory());
+        skill.setLevel(skillDetails.getLevel());
+        skill.setDisplayOrder(skillDetails.getDisplayOrder());
     }
 }
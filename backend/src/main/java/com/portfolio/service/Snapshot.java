@@ -0,0 +1,21 @@
+package com.portfolio.service;
+
+import lombok.Value;
+
+/**
+ * A pre-serialized response body in one {@link SnapshotFormat}, with its
+ * gzip-compressed variant and a strong, content-derived ETag for each.
+ */
+@Value
+public class Snapshot {
+
+    SnapshotFormat format;
+
+    byte[] body;
+
+    String etag;
+
+    byte[] gzipBody;
+
+    String gzipEtag;
+}
@@ -0,0 +1,39 @@
+package com.portfolio.service;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.List;
+
+/**
+ * Wire formats a snapshot can be rendered in. JSON is the default; CBOR and
+ * Smile are compact binary encodings of the same Jackson model.
+ */
+public enum SnapshotFormat {
+
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(new MediaType("application", "x-jackson-smile"));
+
+    private final MediaType mediaType;
+
+    SnapshotFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static SnapshotFormat fromAccept(List<MediaType> accept) {
+        MimeTypeUtils.sortBySpecificity(accept);
+        for (MediaType mediaType : accept) {
+            for (SnapshotFormat format : values()) {
+                if (format.mediaType.equalsTypeAndSubtype(mediaType)) {
+                    return format;
+                }
+            }
+        }
+        return JSON;
+    }
+}
@@ -0,0 +1,124 @@
+package com.portfolio.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@Slf4j
+public class SnapshotService {
+
+    // Keys include path variables, so cap how many distinct snapshots are kept;
+    // past the cap the least used ones make room for new ones.
+    private static final int MAX_SNAPSHOTS = 256;
+
+    private final Map<SnapshotFormat, ObjectMapper> mappers = new EnumMap<>(SnapshotFormat.class);
+
+    private final Cache<String, Snapshot> snapshots = Caffeine.newBuilder()
+            .maximumSize(MAX_SNAPSHOTS)
+            .build();
+
+    // Bumped on every catalogue change. Storing a snapshot and invalidating
+    // them both hold this lock, so a render is either kept before the
+    // invalidation clears it or compared against the new generation.
+    private final Object generationLock = new Object();
+    private final AtomicLong generation = new AtomicLong();
+
+    public SnapshotService(ObjectMapper objectMapper) {
+        // The binary mappers share the configuration and modules of the JSON one.
+        mappers.put(SnapshotFormat.JSON, objectMapper);
+        mappers.put(SnapshotFormat.CBOR, objectMapper.copyWith(new CBORFactory()));
+        mappers.put(SnapshotFormat.SMILE, objectMapper.copyWith(new SmileFactory()));
+    }
+
+    public Snapshot getSnapshot(String key, Supplier<?> loader) {
+        return getSnapshot(key, SnapshotFormat.JSON, loader);
+    }
+
+    public Snapshot getSnapshot(String key, SnapshotFormat format, Supplier<?> loader) {
+        String snapshotKey = key + "@" + format;
+        Snapshot snapshot = snapshots.getIfPresent(snapshotKey);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        // A write committed while we were rendering makes this snapshot stale:
+        // serve it to the current caller but do not keep it. Loaders read the
+        // database, not the Spring caches, so a render that started after the
+        // last change cannot pick up rows that change evicted.
+        long renderedGeneration = generation.get();
+        snapshot = render(format, loader.get());
+        synchronized (generationLock) {
+            if (generation.get() == renderedGeneration) {
+                Snapshot stored = snapshots.asMap().putIfAbsent(snapshotKey, snapshot);
+                if (stored != null) {
+                    snapshot = stored;
+                }
+            }
+        }
+        log.debug("Rendered snapshot {} ({} bytes, {} gzipped)", snapshotKey,
+                snapshot.getBody().length, snapshot.getGzipBody().length);
+        return snapshot;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogueChanged(CatalogueChangedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * Drops every snapshot so the next request renders it again.
+     */
+    public void invalidateAll() {
+        synchronized (generationLock) {
+            generation.incrementAndGet();
+            snapshots.invalidateAll();
+        }
+    }
+
+    private Snapshot render(SnapshotFormat format, Object value) {
+        try {
+            byte[] body = mappers.get(format).writeValueAsBytes(value);
+            String hash = sha256(body);
+            return new Snapshot(format, body, "\"" + hash + "\"", gzip(body), "\"" + hash + "-gzip\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize snapshot", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.portfolio.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Streaming syntax highlighter that turns source text into HTML.
+ * <p>
+ * Input is read once through a three-character pushback window and written
+ * straight to the output, so memory use does not depend on file size. Each
+ * source line becomes a {@code <span class="line">}; tokens are wrapped in
+ * {@code tok-kw}, {@code tok-str}, {@code tok-com} and {@code tok-num} spans,
+ * which are closed and reopened at line breaks so every line is well formed.
+ */
+public final class SyntaxHighlighter {
+
+    /** Bump when the markup changes so stored renders are regenerated. */
+    public static final String VERSION = "v1";
+
+    private static final int MAX_WORD = 64;
+
+    private static final Language PLAIN = new Language(Set.of(), false, List.of(), null, null, "", false);
+
+    private static final Set<String> C_STYLE_KEYWORDS = Set.of(
+            "if", "else", "for", "while", "do", "switch", "case", "default", "break", "continue", "return",
+            "try", "catch", "finally", "throw", "new", "class", "interface", "enum", "extends", "implements",
+            "import", "package", "public", "private", "protected", "static", "final", "abstract", "void",
+            "this", "super", "null", "true", "false", "const", "let", "var", "function", "async", "await",
+            "export", "from", "of", "in", "instanceof", "typeof", "yield");
+
+    private static final Map<String, Language> LANGUAGES = Map.ofEntries(
+            Map.entry("java", new Language(union(C_STYLE_KEYWORDS, Set.of(
+                    "int", "long", "short", "byte", "char", "boolean", "double", "float", "synchronized",
+                    "volatile", "transient", "native", "throws", "record", "sealed", "permits", "assert")),
+                    false, List.of("//"), "/*", "*/", "\"'", false)),
+            Map.entry("javascript", new Language(C_STYLE_KEYWORDS, false, List.of("//"), "/*", "*/", "\"'`", false)),
+            Map.entry("typescript", new Language(union(C_STYLE_KEYWORDS, Set.of(
+                    "type", "namespace", "declare", "readonly", "keyof", "as", "any", "unknown", "never",
+                    "string", "number", "boolean")),
+                    false, List.of("//"), "/*", "*/", "\"'`", false)),
+            Map.entry("python", new Language(Set.of(
+                    "def", "class", "return", "if", "elif", "else", "for", "while", "break", "continue", "pass",
+                    "import", "from", "as", "try", "except", "finally", "raise", "with", "lambda", "yield",
+                    "global", "nonlocal", "assert", "del", "in", "is", "not", "and", "or", "None", "True",
+                    "False", "async", "await", "self"),
+                    false, List.of("#"), null, null, "\"'", true)),
+            Map.entry("sql", new Language(Set.of(
+                    "select", "from", "where", "insert", "into", "values", "update", "set", "delete", "create",
+                    "table", "index", "drop", "alter", "join", "left", "right", "inner", "outer", "on", "and",
+                    "or", "not", "null", "is", "in", "as", "order", "by", "group", "having", "limit", "offset",
+                    "primary", "key", "foreign", "references", "distinct", "union", "case", "when", "then",
+                    "end", "exists"),
+                    true, List.of("--"), "/*", "*/", "'\"", false)),
+            Map.entry("shell", new Language(Set.of(
+                    "if", "then", "else", "elif", "fi", "for", "while", "do", "done", "case", "esac", "in",
+                    "function", "return", "export", "local", "echo"),
+                    false, List.of("#"), null, null, "\"'", false)),
+            Map.entry("yaml", new Language(Set.of("true", "false", "null", "yes", "no"),
+                    false, List.of("#"), null, null, "\"'", false)),
+            Map.entry("json", new Language(Set.of("true", "false", "null"), false, List.of(), null, null, "\"", false)),
+            Map.entry("css", new Language(Set.of(), false, List.of(), "/*", "*/", "\"'", false)),
+            Map.entry("html", new Language(Set.of(), false, List.of(), "<!--", "-->", "\"'", false)));
+
+    private static final Map<String, String> ALIASES = Map.ofEntries(
+            Map.entry("js", "javascript"),
+            Map.entry("jsx", "javascript"),
+            Map.entry("ts", "typescript"),
+            Map.entry("tsx", "typescript"),
+            Map.entry("py", "python"),
+            Map.entry("bash", "shell"),
+            Map.entry("sh", "shell"),
+            Map.entry("yml", "yaml"),
+            Map.entry("xml", "html"));
+
+    private SyntaxHighlighter() {
+    }
+
+    public static void highlight(String language, Reader input, Writer output) throws IOException {
+        new Renderer(resolve(language), new PushbackReader(new BufferedReader(input), 3), output).render();
+    }
+
+    /**
+     * The canonical name of a supported language, with aliases and case folded
+     * ("JS" is "javascript"); empty for anything rendered as plain text.
+     */
+    public static Optional<String> canonicalName(String language) {
+        if (language == null) {
+            return Optional.empty();
+        }
+        String name = language.toLowerCase(Locale.ROOT);
+        name = ALIASES.getOrDefault(name, name);
+        return LANGUAGES.containsKey(name) ? Optional.of(name) : Optional.empty();
+    }
+
+    private static Language resolve(String language) {
+        return canonicalName(language).map(LANGUAGES::get).orElse(PLAIN);
+    }
+
+    private static Set<String> union(Set<String> a, Set<String> b) {
+        return Stream.concat(a.stream(), b.stream()).collect(Collectors.toUnmodifiableSet());
+    }
+
+    private record Language(Set<String> keywords, boolean caseInsensitive, List<String> lineComments,
+                            String blockStart, String blockEnd, String quotes, boolean tripleQuotes) {
+    }
+
+    private static final class Renderer {
+
+        private final Language language;
+        private final PushbackReader in;
+        private final Writer out;
+
+        private String tokenClass;
+        private boolean lineOpen;
+        private boolean spanOpen;
+
+        Renderer(Language language, PushbackReader in, Writer out) {
+            this.language = language;
+            this.in = in;
+            this.out = out;
+        }
+
+        void render() throws IOException {
+            int c;
+            while ((c = in.read()) != -1) {
+                String lineComment = lineComment(c);
+                if (lineComment != null) {
+                    startToken("com");
+                    emit(lineComment);
+                    copyToLineEnd();
+                    endToken();
+                } else if (language.blockStart() != null && c == language.blockStart().charAt(0)
+                        && consume(language.blockStart().substring(1))) {
+                    startToken("com");
+                    emit(language.blockStart());
+                    copyThrough(language.blockEnd());
+                    endToken();
+                } else if (language.quotes().indexOf(c) >= 0) {
+                    string((char) c);
+                } else if (Character.isDigit(c)) {
+                    number(c);
+                } else if (Character.isLetter(c) || c == '_' || c == '$') {
+                    word(c);
+                } else {
+                    emit(c);
+                }
+            }
+            if (spanOpen) {
+                out.write("</span>");
+            }
+            if (lineOpen) {
+                out.write("</span>");
+            }
+            out.flush();
+        }
+
+        private String lineComment(int c) throws IOException {
+            for (String prefix : language.lineComments()) {
+                if (c == prefix.charAt(0) && consume(prefix.substring(1))) {
+                    return prefix;
+                }
+            }
+            return null;
+        }
+
+        private void copyToLineEnd() throws IOException {
+            int c;
+            while ((c = in.read()) != -1) {
+                if (c == '\n') {
+                    in.unread(c);
+                    return;
+                }
+                emit(c);
+            }
+        }
+
+        private void copyThrough(String end) throws IOException {
+            int c;
+            while ((c = in.read()) != -1) {
+                if (c == end.charAt(0) && consume(end.substring(1))) {
+                    emit(end);
+                    return;
+                }
+                emit(c);
+            }
+        }
+
+        private void string(char quote) throws IOException {
+            String triple = String.valueOf(quote).repeat(2);
+            boolean multiline = quote == '`';
+            boolean tripleQuoted = language.tripleQuotes() && consume(triple);
+            startToken("str");
+            emit(tripleQuoted ? String.valueOf(quote).repeat(3) : String.valueOf(quote));
+            int c;
+            while ((c = in.read()) != -1) {
+                if (c == '\\') {
+                    emit(c);
+                    int escaped = in.read();
+                    if (escaped != -1) {
+                        emit(escaped);
+                    }
+                } else if (c == quote && (!tripleQuoted || consume(triple))) {
+                    emit(tripleQuoted ? String.valueOf(quote).repeat(3) : String.valueOf(quote));
+                    break;
+                } else if (c == '\n' && !tripleQuoted && !multiline) {
+                    // Unterminated string: stop at the end of the line
+                    in.unread(c);
+                    break;
+                } else {
+                    emit(c);
+                }
+            }
+            endToken();
+        }
+
+        private void number(int first) throws IOException {
+            startToken("num");
+            emit(first);
+            int c;
+            while ((c = in.read()) != -1) {
+                if (Character.isLetterOrDigit(c) || c == '.' || c == '_') {
+                    emit(c);
+                } else {
+                    in.unread(c);
+                    break;
+                }
+            }
+            endToken();
+        }
+
+        private void word(int first) throws IOException {
+            StringBuilder word = new StringBuilder().appendCodePoint(first);
+            boolean overflowed = false;
+            int c;
+            while ((c = in.read()) != -1) {
+                if (!Character.isLetterOrDigit(c) && c != '_' && c != '$') {
+                    in.unread(c);
+                    break;
+                }
+                if (word.length() >= MAX_WORD) {
+                    // Too long to be a keyword; stream the rest without buffering
+                    emit(word);
+                    word.setLength(0);
+                    overflowed = true;
+                    emit(c);
+                    continue;
+                }
+                word.append((char) c);
+            }
+            String text = word.toString();
+            String lookup = language.caseInsensitive() ? text.toLowerCase(Locale.ROOT) : text;
+            if (!overflowed && language.keywords().contains(lookup)) {
+                startToken("kw");
+                emit(text);
+                endToken();
+            } else {
+                emit(text);
+            }
+        }
+
+        /**
+         * Reads ahead and consumes {@code expected} if it comes next; otherwise
+         * pushes back whatever was read.
+         */
+        private boolean consume(String expected) throws IOException {
+            char[] read = new char[expected.length()];
+            int count = 0;
+            boolean matches = true;
+            while (count < expected.length()) {
+                int c = in.read();
+                if (c == -1) {
+                    matches = false;
+                    break;
+                }
+                read[count++] = (char) c;
+                if (c != expected.charAt(count - 1)) {
+                    matches = false;
+                    break;
+                }
+            }
+            if (!matches && count > 0) {
+                in.unread(read, 0, count);
+            }
+            return matches;
+        }
+
+        private void startToken(String cssClass) {
+            tokenClass = cssClass;
+        }
+
+        private void endToken() throws IOException {
+            if (spanOpen) {
+                out.write("</span>");
+                spanOpen = false;
+            }
+            tokenClass = null;
+        }
+
+        private void emit(CharSequence text) throws IOException {
+            for (int i = 0; i < text.length(); i++) {
+                emit(text.charAt(i));
+            }
+        }
+
+        private void emit(int c) throws IOException {
+            if (c == '\r') {
+                return;
+            }
+            if (c == '\n') {
+                if (spanOpen) {
+                    out.write("</span>");
+                    spanOpen = false;
+                }
+                out.write(lineOpen ? "</span>\n" : "<span class=\"line\"></span>\n");
+                lineOpen = false;
+                return;
+            }
+            if (!lineOpen) {
+                out.write("<span class=\"line\">");
+                lineOpen = true;
+            }
+            if (tokenClass != null && !spanOpen) {
+                out.write("<span class=\"tok-");
+                out.write(tokenClass);
+                out.write("\">");
+                spanOpen = true;
+            }
+            switch (c) {
+                case '<' -> out.write("&lt;");
+                case '>' -> out.write("&gt;");
+                case '&' -> out.write("&amp;");
+                default -> out.write(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.portfolio.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.portfolio.domain.model.ContactMessage;
+import com.portfolio.domain.model.Project;
+import com.portfolio.domain.model.Skill;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One line of the NDJSON produced by {@code /api/export} and read by
+ * {@code /api/import}. {@code type} says which payload field is set;
+ * {@code id} is the row's id in the exporting database, which is what an
+ * interrupted export resumes from. Repositories use the seed shape and
+ * reference their project by title, since ids are reassigned on import.
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TransferRecord {
+
+    private Type type;
+
+    private Long id;
+
+    private Project project;
+
+    private Skill skill;
+
+    private SeedDataset.SeedRepository repository;
+
+    private ContactMessage contactMessage;
+
+    public enum Type {
+        PROJECT,
+        SKILL,
+        REPOSITORY,
+        CONTACT_MESSAGE
+    }
+}
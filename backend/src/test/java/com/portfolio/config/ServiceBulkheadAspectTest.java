@@ -0,0 +1,91 @@
+package com.portfolio.config;
+
+import com.portfolio.repository.ReactiveCodeRepositoryRepository;
+import com.portfolio.repository.ReactiveProjectRepository;
+import com.portfolio.repository.ReactiveSkillRepository;
+import com.portfolio.service.ReactiveCatalogueService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A reactive read must hold its read permit while the stream is open, not
+ * only while the service method builds it, fail at once instead of parking
+ * the subscribing thread when none is free, and share it with the reactive
+ * service calls composed into it.
+ */
+class ServiceBulkheadAspectTest {
+
+    // A long wait, so a rejection within the test timeout shows the stream did not wait
+    private final Bulkhead readBulkhead = new Bulkhead("read", 1, 60_000);
+    private final ReactiveProjectRepository projectRepository = mock(ReactiveProjectRepository.class);
+    private final ReactiveSkillRepository skillRepository = mock(ReactiveSkillRepository.class);
+    private ReactiveCatalogueService service;
+
+    @BeforeEach
+    void setUp() {
+        when(projectRepository.findAllByOrderByDisplayOrderAsc()).thenReturn(Flux.never());
+        when(skillRepository.findAllByOrderByDisplayOrderAsc()).thenReturn(Flux.empty());
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new ReactiveCatalogueService(
+                projectRepository, skillRepository, mock(ReactiveCodeRepositoryRepository.class)));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new ServiceBulkheadAspect(readBulkhead, new Bulkhead("write", 1, 10)));
+        service = proxyFactory.getProxy();
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(
+                new MockHttpServletRequest("GET", "/api/reactive/projects")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void openStreamHoldsItsPermitUntilCancelled() {
+        Disposable open = service.getAllProjects().subscribe();
+
+        assertTimeout(Duration.ofSeconds(5), () ->
+                assertThatThrownBy(() -> service.getAllSkills().blockLast())
+                        .isInstanceOf(BulkheadFullException.class));
+
+        open.dispose();
+        assertThat(service.getAllSkills().collectList().block()).isEmpty();
+    }
+
+    @Test
+    void streamInsideAStreamSharesItsPermit() {
+        Disposable open = service.getAllProjects().subscribe();
+
+        assertThat(service.getAllSkills()
+                .contextWrite(Context.of(ServiceBulkheadAspect.HOLDING_PERMIT_KEY, Boolean.TRUE))
+                .collectList().block()).isEmpty();
+
+        open.dispose();
+    }
+
+    @Test
+    void streamThatIsNeverSubscribedTakesNoPermit() {
+        service.getAllProjects();
+        service.getAllProjects();
+
+        assertThat(service.getAllSkills().collectList().block()).isEmpty();
+        assertThat(service.getAllSkills().collectList().block()).isEmpty();
+    }
+}
@@ -0,0 +1,76 @@
+package com.portfolio.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The reactive listings must serve the same documents as the JPA ones they
+ * mirror, both as a JSON array and streamed as NDJSON, on the seeded
+ * dataset.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive-parity",
+        "portfolio.reactive.url=r2dbc:h2:mem:///reactive-parity",
+        "portfolio.access-log.sample-rate=0"
+})
+class ReactiveCatalogueControllerTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/projects",
+            "/projects/featured",
+            "/projects/category/DATA_ENGINEERING",
+            "/skills",
+            "/skills/category/CLOUD_INFRASTRUCTURE",
+            "/repositories",
+            "/repositories/project/3"
+    })
+    void servesTheSameDocumentsAsTheJpaEndpoints(String path) throws Exception {
+        JsonNode expected = get("/api" + path, MediaType.APPLICATION_JSON);
+        assertThat(expected).isNotEmpty();
+
+        assertThat(get("/api/reactive" + path, MediaType.APPLICATION_JSON)).isEqualTo(expected);
+
+        String ndjson = getString("/api/reactive" + path, MediaType.APPLICATION_NDJSON);
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : ndjson.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        JsonNode streamed = objectMapper.valueToTree(lines);
+        assertThat(streamed).isEqualTo(expected);
+    }
+
+    private JsonNode get(String path, MediaType accept) throws Exception {
+        return objectMapper.readTree(getString(path, accept));
+    }
+
+    private String getString(String path, MediaType accept) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(accept));
+        ResponseEntity<String> response = restTemplate.exchange(path, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+}
@@ -0,0 +1,174 @@
+package com.portfolio.repository;
+
+import com.portfolio.domain.model.Project;
+import com.portfolio.domain.model.Skill;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs each finder against 100k rows per table on H2, the development
+ * database, captures the SQL Hibernate generated for it and asserts that
+ * {@code EXPLAIN} picks the index declared for that finder. A finder whose
+ * filter or sort stops matching its index shows up here as a table scan.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:finder-plans;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.portfolio.repository.FinderIndexPlanTest$SqlRecorder"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FinderIndexPlanTest {
+
+    private static final int ROWS = 100_000;
+    private static final LocalDateTime MIDDLE = LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(ROWS / 2);
+    private static final PageRequest PAGE = PageRequest.of(0, 20);
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private CodeRepositoryRepository codeRepositoryRepository;
+
+    @Autowired
+    private CodeFileRepository codeFileRepository;
+
+    @Autowired
+    private CodeRenderRepository codeRenderRepository;
+
+    @Autowired
+    private ContactMessageRepository contactMessageRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO projects (title, description, category, is_featured, display_order, created_at) " +
+                "SELECT 'Project ' || X, 'Description', " +
+                "CASE WHEN MOD(X, 6) = 0 THEN 'DATA_ENGINEERING' ELSE 'WEB_DEVELOPMENT' END, " +
+                "MOD(X, 50) = 0, X, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)", ROWS);
+        jdbcTemplate.update("INSERT INTO project_tags (project_id, tag) SELECT X, 'tag' FROM SYSTEM_RANGE(1, ?)", ROWS);
+        jdbcTemplate.update("INSERT INTO skills (name, category, level, display_order, created_at) " +
+                "SELECT 'Skill ' || X, " +
+                "CASE WHEN MOD(X, 6) = 0 THEN 'DATA_ENGINEERING' ELSE 'CLOUD_INFRASTRUCTURE' END, " +
+                "50, X, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)", ROWS);
+        jdbcTemplate.update("INSERT INTO code_repositories (name, project_id, display_order, created_at) " +
+                "SELECT 'Repository ' || X, X, X, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)", ROWS);
+        jdbcTemplate.update("INSERT INTO repository_files (repository_id, file_name, file_path, language, lines, content_hash) " +
+                "SELECT X, 'Main.java', 'src/Main.java', 'java', 10, 'hash-' || X FROM SYSTEM_RANGE(1, ?)", ROWS);
+        jdbcTemplate.update("INSERT INTO contact_messages (name, email, message, is_read, created_at) " +
+                "SELECT 'Name', 'name@example.com', 'Message', MOD(X, 10) <> 0, " +
+                "DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00') FROM SYSTEM_RANGE(1, ?)", ROWS);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void projectListingsUseDisplayOrderIndexes() {
+        String all = explain(() -> projectRepository.findAllByOrderByDisplayOrderAsc());
+        assertThat(all).contains("IDX_PROJECTS_DISPLAY_ORDER", "IDX_PROJECT_TAGS_PROJECT_ID");
+
+        assertThat(explain(() -> projectRepository.findByIsFeaturedTrueOrderByDisplayOrderAsc()))
+                .contains("IDX_PROJECTS_FEATURED_DISPLAY_ORDER");
+        assertThat(explain(() -> projectRepository.findByCategoryOrderByDisplayOrderAsc(
+                Project.ProjectCategory.DATA_ENGINEERING), "DATA_ENGINEERING"))
+                .contains("IDX_PROJECTS_CATEGORY_DISPLAY_ORDER");
+    }
+
+    @Test
+    void skillListingsUseDisplayOrderIndexes() {
+        assertThat(explain(() -> skillRepository.findAllByOrderByDisplayOrderAsc()))
+                .contains("IDX_SKILLS_DISPLAY_ORDER");
+        assertThat(explain(() -> skillRepository.findByCategoryOrderByDisplayOrderAsc(
+                Skill.SkillCategory.DATA_ENGINEERING), "DATA_ENGINEERING"))
+                .contains("IDX_SKILLS_CATEGORY_DISPLAY_ORDER");
+    }
+
+    @Test
+    void repositoryFindersUseProjectAndPathIndexes() {
+        // The files join adds the file order to the sort, so this full listing is
+        // read and sorted without the display order index; its joins must be indexed
+        assertThat(explain(() -> codeRepositoryRepository.findAllByOrderByDisplayOrderAsc()))
+                .doesNotContain("REPOSITORY_FILES.tableScan", "PROJECTS.tableScan");
+        assertThat(explain(() -> codeRepositoryRepository.findAllSummaries()))
+                .contains("IDX_CODE_REPOSITORIES_DISPLAY_ORDER");
+        // H2 may seek project_id through the foreign key index instead, which is as good
+        assertThat(explain(() -> codeRepositoryRepository.findByProjectIdOrderByDisplayOrderAsc(42L), 42L))
+                .doesNotContain("CODE_REPOSITORIES.tableScan");
+        assertThat(explain(() -> codeRepositoryRepository.findSummariesByProjectId(42L), 42L))
+                .doesNotContain("CODE_REPOSITORIES.tableScan");
+        assertThat(explain(() -> codeFileRepository.findByRepositoryIdAndFilePath(42L, "src/Main.java"),
+                42L, "src/Main.java"))
+                .contains("UK_REPOSITORY_FILES_REPOSITORY_PATH");
+        assertThat(explain(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                codeRenderRepository.deleteUnreferenced(Set.of("hash-42"))), "hash-42"))
+                .contains("IDX_REPOSITORY_FILES_CONTENT_HASH");
+    }
+
+    @Test
+    void contactPagesSeekTheCreatedAtIndexes() {
+        assertThat(explain(() -> contactMessageRepository.findFirstPage(PAGE), PAGE.getPageSize()))
+                .contains("IDX_CONTACT_MESSAGES_CREATED_AT", "index sorted");
+        assertThat(explain(() -> contactMessageRepository.findPageAfter(MIDDLE, 500L, PAGE),
+                MIDDLE, MIDDLE, 500L, PAGE.getPageSize()))
+                .contains("IDX_CONTACT_MESSAGES_CREATED_AT: CREATED_AT <=", "index sorted");
+
+        assertThat(explain(() -> contactMessageRepository.findFirstUnreadPage(PAGE), PAGE.getPageSize()))
+                .contains("IDX_CONTACT_MESSAGES_IS_READ_CREATED_AT");
+        assertThat(explain(() -> contactMessageRepository.findUnreadPageAfter(MIDDLE, 500L, PAGE),
+                MIDDLE, MIDDLE, 500L, PAGE.getPageSize()))
+                .contains("IDX_CONTACT_MESSAGES_IS_READ_CREATED_AT");
+        assertThat(explain(() -> contactMessageRepository.countByIsReadFalse()))
+                .contains("IDX_CONTACT_MESSAGES_IS_READ_CREATED_AT");
+    }
+
+    /**
+     * Runs the finder, then explains the last statement it sent with the
+     * same parameter values.
+     */
+    private String explain(Runnable finder, Object... parameters) {
+        SqlRecorder.STATEMENTS.clear();
+        finder.run();
+        assertThat(SqlRecorder.STATEMENTS).isNotEmpty();
+        String sql = SqlRecorder.STATEMENTS.get(SqlRecorder.STATEMENTS.size() - 1);
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+    }
+
+    public static class SqlRecorder implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.portfolio.repository;
+
+import com.portfolio.domain.model.Project;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The project listings must load their tags with the projects, so the number
+ * of statements stays the same however many projects there are. Both caches
+ * are off here: a cache hit would hide a lazy select per project.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+class ProjectRepositoryQueryCountTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private int created;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findAllLoadsTagsInOneStatement() {
+        assertConstantStatements(() -> projectRepository.findAllByOrderByDisplayOrderAsc());
+    }
+
+    @Test
+    void findFeaturedLoadsTagsInOneStatement() {
+        assertConstantStatements(() -> projectRepository.findByIsFeaturedTrueOrderByDisplayOrderAsc());
+    }
+
+    @Test
+    void findByCategoryLoadsTagsInOneStatement() {
+        assertConstantStatements(() -> projectRepository.findByCategoryOrderByDisplayOrderAsc(
+                Project.ProjectCategory.WEB_DEVELOPMENT));
+    }
+
+    private void assertConstantStatements(Supplier<List<Project>> listing) {
+        createProjects(5);
+        assertThat(countStatements(listing, 5)).isEqualTo(1);
+
+        createProjects(45);
+        assertThat(countStatements(listing, 50)).isEqualTo(1);
+    }
+
+    private long countStatements(Supplier<List<Project>> listing, int expectedProjects) {
+        entityManager.clear();
+        statistics.clear();
+
+        List<Project> projects = listing.get();
+        // What Jackson does when it writes the response
+        int tags = projects.stream().mapToInt(project -> project.getTags().size()).sum();
+
+        assertThat(projects).hasSize(expectedProjects);
+        assertThat(tags).isEqualTo(expectedProjects * 3);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createProjects(int count) {
+        for (int i = 0; i < count; i++) {
+            int n = created++;
+            Project project = new Project();
+            project.setTitle("Project " + n);
+            project.setDescription("Description " + n);
+            project.setCategory(Project.ProjectCategory.WEB_DEVELOPMENT);
+            project.setIsFeatured(true);
+            project.setDisplayOrder(n);
+            project.setTags(List.of("java", "spring", "tag-" + n));
+            entityManager.persist(project);
+        }
+        entityManager.flush();
+    }
+}
@@ -0,0 +1,85 @@
+package com.portfolio.service;
+
+import com.portfolio.domain.model.CodeBlob;
+import com.portfolio.domain.model.CodeRender;
+import com.portfolio.domain.model.CodeRepository;
+import com.portfolio.repository.CodeBlobRepository;
+import com.portfolio.repository.CodeRenderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Concurrent first views of a file must all be served its render, not fail
+ * on the key the first of them stored.
+ */
+class CodeHighlightStoreTest {
+
+    private static final String CONTENT = "public class Greeting { String text = \"hello\"; }";
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:highlight-store;DB_CLOSE_DELAY=-1"));
+    private final CodeRenderRepository codeRenderRepository = mock(CodeRenderRepository.class);
+    private final CodeBlobRepository codeBlobRepository = mock(CodeBlobRepository.class);
+    private final CodeHighlightStore store = new CodeHighlightStore(codeRenderRepository, codeBlobRepository, jdbcTemplate);
+    private final String hash = CodeRepository.CodeFile.hashContent(CONTENT);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS code_renders");
+        jdbcTemplate.execute("CREATE TABLE code_renders (hash VARCHAR(64) PRIMARY KEY, " +
+                "content_hash VARCHAR(64) NOT NULL, language VARCHAR(255) NOT NULL, data VARBINARY NOT NULL, " +
+                "size BIGINT NOT NULL, compressed_size BIGINT NOT NULL, created_at TIMESTAMP NOT NULL)");
+
+        byte[] bytes = CONTENT.getBytes(StandardCharsets.UTF_8);
+        CodeBlob blob = new CodeBlob();
+        blob.setHash(hash);
+        blob.setData(CodeBlobStore.compress(bytes));
+        blob.setSize((long) bytes.length);
+        blob.setCompressedSize((long) blob.getData().length);
+        // Every caller misses, as concurrent first views do before either has stored
+        when(codeRenderRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(codeBlobRepository.findById(hash)).thenReturn(Optional.of(blob));
+    }
+
+    @Test
+    void concurrentMissesStoreOneRender() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Optional<CodeRender>>> renders = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                renders.add(executor.submit(() -> store.findOrRender(hash, "java")));
+            }
+            for (Future<Optional<CodeRender>> render : renders) {
+                assertThat(render.get()).hasValueSatisfying(r ->
+                        assertThat(r.getHash()).isEqualTo(CodeHighlightStore.renderKey(hash, "java")));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        store.render(hash, "java", CONTENT);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM code_renders", Long.class)).isEqualTo(1L);
+    }
+
+    @Test
+    void unknownLanguageIsRenderedButNotKept() {
+        assertThat(store.findOrRender(hash, "no-such-language")).isPresent();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM code_renders", Long.class)).isZero();
+    }
+}
@@ -0,0 +1,67 @@
+package com.portfolio.service;
+
+import com.portfolio.domain.model.Project;
+import com.portfolio.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tag lookups match whole tags ignoring case, as the member query they
+ * replaced did apart from case; {@code prefix=true} widens a lookup to tags
+ * starting with it. A fragment from inside a tag matches nothing.
+ */
+class ProjectTagIndexTest {
+
+    private final ProjectTagIndex index = new ProjectTagIndex(mock(ProjectRepository.class));
+
+    @BeforeEach
+    void setUp() {
+        index.index(project(1L, "Java", "Spring Boot"));
+        index.index(project(2L, "JavaScript", "React"));
+        index.index(project(3L, "Python"));
+    }
+
+    @Test
+    void matchesWholeTagsIgnoringCase() {
+        assertThat(index.find("java", false)).containsExactly(1L);
+        assertThat(index.find(" SPRING BOOT ", false)).containsExactly(1L);
+        assertThat(index.find("ava", false)).isEmpty();
+        assertThat(index.find("script", false)).isEmpty();
+    }
+
+    @Test
+    void prefixMatchesTagsStartingWithIt() {
+        assertThat(index.find("java", true)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.find("Py", true)).containsExactly(3L);
+        assertThat(index.find("ava", true)).isEmpty();
+    }
+
+    @Test
+    void combinesSeveralTags() {
+        assertThat(index.findAny(List.of("java", "python"), false)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.findAll(List.of("java", "spring boot"), false)).containsExactly(1L);
+        assertThat(index.findAll(List.of("java", "react"), false)).isEmpty();
+    }
+
+    @Test
+    void reindexingAProjectReplacesItsTags() {
+        index.index(project(1L, "Kotlin"));
+        assertThat(index.find("java", false)).isEmpty();
+        assertThat(index.find("kotlin", false)).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.find("kotlin", false)).isEmpty();
+    }
+
+    private static Project project(Long id, String... tags) {
+        Project project = new Project();
+        project.setId(id);
+        project.setTags(List.of(tags));
+        return project;
+    }
+}
@@ -1,14 +1,15 @@
 'use client';
 
-import { useState, useMemo } from 'react';
+import { useState, useMemo, useEffect } from 'react';
 import { motion, AnimatePresence } from 'framer-motion';
 import { Prism as SyntaxHighlighter } from 'react-syntax-highlighter';
 import { vscDarkPlus } from 'react-syntax-highlighter/dist/esm/styles/prism';
-import { CodeFile } from '@/lib/repositoryApi';
+import { CodeFileSummary, repositoryApi } from '@/lib/repositoryApi';
 import { FileCode, Copy, Check, Download, ExternalLink, Folder, FolderOpen, ChevronRight, ChevronDown } from 'lucide-react';
 
 interface CodeViewerProps {
-  files: CodeFile[];
+  repositoryId: number;
+  files: CodeFileSummary[];
   repositoryName: string;
   githubUrl?: string;
 }
@@ -16,15 +17,47 @@ interface CodeViewerProps {
 interface FolderNode {
   name: string;
   type: 'file' | 'folder';
-  file?: CodeFile;
+  file?: CodeFileSummary;
   children?: FolderNode[];
   path: string;
 }
 
-export default function CodeViewer({ files, repositoryName, githubUrl }: CodeViewerProps) {
-  const [selectedFile, setSelectedFile] = useState<CodeFile | null>(files[0] || null);
+export default function CodeViewer({ repositoryId, files, repositoryName, githubUrl }: CodeViewerProps) {
+  const [selectedFile, setSelectedFile] = useState<CodeFileSummary | null>(files[0] || null);
   const [copiedFile, setCopiedFile] = useState<string | null>(null);
   const [expandedFolders, setExpandedFolders] = useState<Set<string>>(new Set(['/']));
+  const [contents, setContents] = useState<Record<string, string>>({});
+  // Highlighted HTML rendered by the backend; null means it failed and the client highlighter is used
+  const [highlighted, setHighlighted] = useState<Record<string, string | null>>({});
+
+  // File bodies are not part of the listing; fetch each one the first time it is opened
+  useEffect(() => {
+    if (!selectedFile || contents[selectedFile.filePath] !== undefined) return;
+    const { filePath, contentHash } = selectedFile;
+    const request = contentHash
+      ? repositoryApi.getBlob(contentHash)
+      : repositoryApi.getFileContent(repositoryId, filePath);
+    request
+      .then(content => setContents(prev => ({ ...prev, [filePath]: content })))
+      .catch(err => console.error('Error fetching file content:', err));
+  }, [repositoryId, selectedFile, contents]);
+
+  useEffect(() => {
+    if (!selectedFile || highlighted[selectedFile.filePath] !== undefined) return;
+    const { filePath, contentHash, language } = selectedFile;
+    const request = contentHash
+      ? repositoryApi.getHighlightedBlob(contentHash, language)
+      : repositoryApi.getHighlightedFile(repositoryId, filePath);
+    request
+      .then(html => setHighlighted(prev => ({ ...prev, [filePath]: html })))
+      .catch(err => {
+        console.error('Error fetching highlighted file:', err);
+        setHighlighted(prev => ({ ...prev, [filePath]: null }));
+      });
+  }, [repositoryId, selectedFile, highlighted]);
+
+  const selectedContent = selectedFile ? contents[selectedFile.filePath] : undefined;
+  const selectedHighlighted = selectedFile ? highlighted[selectedFile.filePath] : undefined;
 
   // Build folder tree structure from flat file list
   const folderTree = useMemo(() => {
@@ -104,8 +137,8 @@ export default function CodeViewer({ files, repositoryName, githubUrl }: CodeVie
     setTimeout(() => setCopiedFile(null), 2000);
   };
 
-  const handleDownloadFile = (file: CodeFile) => {
-    const blob = new Blob([file.content], { type: 'text/plain' });
+  const handleDownloadFile = (file: CodeFileSummary, content: string) => {
+    const blob = new Blob([content], { type: 'text/plain' });
     const url = URL.createObjectURL(blob);
     const a = document.createElement('a');
     a.href = url;
@@ -249,14 +282,14 @@ export default function CodeViewer({ files, repositoryName, githubUrl }: CodeVie
                   </div>
                   <div className="flex items-center gap-2">
                     <button
-                      onClick={() => handleDownloadFile(selectedFile)}
+                      onClick={() => handleDownloadFile(selectedFile, selectedContent ?? '')}
                       className="p-2 text-gray-400 hover:text-white hover:bg-gray-700 rounded-lg transition-all"
                       title="Download file"
                     >
                       <Download className="w-4 h-4" />
                     </button>
                     <button
-                      onClick={() => handleCopyCode(selectedFile.content, selectedFile.fileName)}
+                      onClick={() => handleCopyCode(selectedContent ?? '', selectedFile.fileName)}
                       className="flex items-center gap-2 px-3 py-2 text-gray-400 hover:text-white hover:bg-gray-700 rounded-lg transition-all"
                       title="Copy code"
                     >
@@ -277,25 +310,37 @@ export default function CodeViewer({ files, repositoryName, githubUrl }: CodeVie
 
                 {/* Code Content */}
                 <div className="overflow-x-auto">
-                  <SyntaxHighlighter
-                    language={selectedFile.language}
-                    style={vscDarkPlus}
-                    showLineNumbers
-                    customStyle={{
-                      margin: 0,
-                      padding: '1.5rem',
-                      background: 'transparent',
-                      fontSize: '0.875rem',
-                    }}
-                    lineNumberStyle={{
-                      minWidth: '3em',
-                      paddingRight: '1em',
-                      color: '#6b7280',
-                      userSelect: 'none',
-                    }}
-                  >
-                    {selectedFile.content}
-                  </SyntaxHighlighter>
+                  {typeof selectedHighlighted === 'string' ? (
+                    <pre className="code-highlight">
+                      <code dangerouslySetInnerHTML={{ __html: selectedHighlighted }} />
+                    </pre>
+                  ) : selectedHighlighted === undefined ? (
+                    <pre className="code-highlight">
+                      <code>
+                        <span className="line">Loading...</span>
+                      </code>
+                    </pre>
+                  ) : (
+                    <SyntaxHighlighter
+                      language={selectedFile.language}
+                      style={vscDarkPlus}
+                      showLineNumbers
+                      customStyle={{
+                        margin: 0,
+                        padding: '1.5rem',
+                        background: 'transparent',
+                        fontSize: '0.875rem',
+                      }}
+                      lineNumberStyle={{
+                        minWidth: '3em',
+                        paddingRight: '1em',
+                        color: '#6b7280',
+                        userSelect: 'none',
+                      }}
+                    >
+                      {selectedContent ?? '// Loading...'}
+                    </SyntaxHighlighter>
+                  )}
                 </div>
               </motion.div>
             )}
@@ -1,8 +1,8 @@
 import { motion, AnimatePresence } from "framer-motion";
 import { ExternalLink, Github, Activity, BookOpen, Dumbbell, Database, Cloud, Workflow, BarChart, Server, GitBranch, Code, X, ArrowRight, Globe, Fish, Gamepad2, Brain, TrendingUp, Receipt } from "lucide-react";
 import { useEffect, useState } from "react";
-import { projectApi, Project } from "@/lib/api";
-import { repositoryApi, CodeRepository } from "@/lib/repositoryApi";
+import { portfolioApi, HOME_FIELDS, Project } from "@/lib/api";
+import { repositoryApi, CodeRepositorySummary } from "@/lib/repositoryApi";
 import CodeViewer from "@/components/CodeViewer";
 import Link from "next/link";
 
@@ -29,15 +29,16 @@ const Projects = () => {
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
   const [selectedProject, setSelectedProject] = useState<Project | null>(null);
-  const [codeRepositories, setCodeRepositories] = useState<CodeRepository[]>([]);
+  const [codeRepositories, setCodeRepositories] = useState<CodeRepositorySummary[]>([]);
   const [loadingCode, setLoadingCode] = useState(false);
 
   useEffect(() => {
     const fetchProjects = async () => {
       try {
         setLoading(true);
-        const data = await projectApi.getFeatured();
-        setProjects(data);
+        const { projects = [], featured = [] } = await portfolioApi.get(HOME_FIELDS);
+        const byId = new Map(projects.map((project) => [project.id, project]));
+        setProjects(featured.flatMap((id) => byId.get(id) ?? []));
       } catch (err) {
         console.error("Error fetching projects:", err);
         setError("Failed to load projects");
@@ -299,6 +300,7 @@ const Projects = () => {
                             )}
                           </div>
                           <CodeViewer 
+                            repositoryId={repo.id}
                             repositoryName={repo.name}
                             files={repo.files} 
                           />
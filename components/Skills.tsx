@@ -2,7 +2,7 @@
 
 import { motion } from "framer-motion";
 import { useEffect, useState } from "react";
-import { skillApi, Skill, SkillCategory } from "@/lib/api";
+import { portfolioApi, HOME_FIELDS, Skill, SkillCategory } from "@/lib/api";
 
 interface SkillGroup {
   category: SkillCategory;
@@ -28,13 +28,13 @@ const Skills = () => {
     const fetchSkills = async () => {
       try {
         setLoading(true);
-        const allSkills = await skillApi.getAll();
+        const { skills = {} } = await portfolioApi.get(HOME_FIELDS);
         
-        // Group skills by category
+        // Skills arrive grouped by category; keep the category order used for display
         const grouped = Object.values(SkillCategory).map((category) => ({
           category,
           title: categoryTitles[category],
-          skills: allSkills.filter((skill) => skill.category === category),
+          skills: skills[category] ?? [],
         })).filter(group => group.skills.length > 0);
 
         setSkillGroups(grouped);
@@ -1,3 +1,5 @@
+import type { CodeRepositorySummary } from './repositoryApi';
+
 // API Configuration
 const API_BASE_URL = process.env.NEXT_PUBLIC_API_URL || 'http://localhost:8080/api';
 
@@ -31,6 +33,10 @@ export const projectApi = {
     apiRequest<Project[]>(`/projects/category/${category}`),
   getByTag: (tag: string) => 
     apiRequest<Project[]>(`/projects/tag/${tag}`),
+  getByTags: (tags: string[], match: 'any' | 'all' = 'any') =>
+    apiRequest<Project[]>(
+      `/projects?${new URLSearchParams({ tags: tags.join(','), match }).toString()}`
+    ),
   getById: (id: number) => apiRequest<Project>(`/projects/${id}`),
   create: (project: Omit<Project, 'id' | 'createdAt' | 'updatedAt'>) =>
     apiRequest<Project>('/projects', {
@@ -66,10 +72,41 @@ export const skillApi = {
     apiRequest<void>(`/skills/${id}`, { method: 'DELETE' }),
 };
 
+// Portfolio API: one aggregated request instead of one per section
+export type PortfolioField = 'projects' | 'featured' | 'skills' | 'repositories';
+
+// Fields used by the home page; Projects and Skills share one request
+export const HOME_FIELDS: PortfolioField[] = ['featured', 'skills'];
+
+const portfolioRequests = new Map<string, Promise<Portfolio>>();
+
+export const portfolioApi = {
+  get: (fields?: PortfolioField[]) => {
+    const query = fields && fields.length > 0 ? `?fields=${fields.join(',')}` : '';
+    let request = portfolioRequests.get(query);
+    if (!request) {
+      request = apiRequest<Portfolio>(`/portfolio${query}`);
+      // Forget failed requests so the next caller retries
+      request.catch(() => portfolioRequests.delete(query));
+      portfolioRequests.set(query, request);
+    }
+    return request;
+  },
+};
+
+function pageQuery(cursor: string | undefined, size: number): string {
+  const params = new URLSearchParams({ size: String(size) });
+  if (cursor) params.set('cursor', cursor);
+  return params.toString();
+}
+
 // Contact Message API
 export const contactApi = {
-  getAll: () => apiRequest<ContactMessage[]>('/contact'),
-  getUnread: () => apiRequest<ContactMessage[]>('/contact/unread'),
+  getAll: (cursor?: string, size = 50) =>
+    apiRequest<CursorPage<ContactMessage>>(`/contact?${pageQuery(cursor, size)}`),
+  getUnread: (cursor?: string, size = 50) =>
+    apiRequest<CursorPage<ContactMessage>>(`/contact/unread?${pageQuery(cursor, size)}`),
+  countUnread: () => apiRequest<{ count: number }>('/contact/unread/count'),
   getById: (id: number) => apiRequest<ContactMessage>(`/contact/${id}`),
   create: (message: Omit<ContactMessage, 'id' | 'isRead' | 'createdAt'>) =>
     apiRequest<ContactMessage>('/contact', {
@@ -128,6 +165,20 @@ export enum SkillCategory {
   WEB_DEVELOPMENT = 'WEB_DEVELOPMENT',
 }
 
+export interface Portfolio {
+  // Every project referenced by the response, once
+  projects?: Project[];
+  // Ids of the featured projects, in display order
+  featured?: number[];
+  skills?: Partial<Record<SkillCategory, Skill[]>>;
+  repositories?: CodeRepositorySummary[];
+}
+
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor: string | null;
+}
+
 export interface ContactMessage {
   id: number;
   name: string;
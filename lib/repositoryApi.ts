@@ -8,6 +8,14 @@ export interface CodeFile {
   content: string;
   language: string;
   lines?: number;
+  contentHash?: string;
+}
+
+// Listing shape: file metadata only, bodies are loaded per file
+export type CodeFileSummary = Omit<CodeFile, 'content'>;
+
+export interface CodeRepositorySummary extends Omit<CodeRepository, 'files'> {
+  files: CodeFileSummary[];
 }
 
 export interface CodeRepository {
@@ -23,7 +31,7 @@ export interface CodeRepository {
 }
 
 export const repositoryApi = {
-  getAll: async (): Promise<CodeRepository[]> => {
+  getAll: async (): Promise<CodeRepositorySummary[]> => {
     const response = await fetch(`${API_URL}/repositories`);
     if (!response.ok) throw new Error('Failed to fetch repositories');
     return response.json();
@@ -35,12 +43,44 @@ export const repositoryApi = {
     return response.json();
   },
 
-  getByProjectId: async (projectId: number): Promise<CodeRepository[]> => {
+  getByProjectId: async (projectId: number): Promise<CodeRepositorySummary[]> => {
     const response = await fetch(`${API_URL}/repositories/project/${projectId}`);
     if (!response.ok) throw new Error('Failed to fetch project repositories');
     return response.json();
   },
 
+  getFileContent: async (id: number, filePath: string): Promise<string> => {
+    const response = await fetch(
+      `${API_URL}/repositories/${id}/files/content?path=${encodeURIComponent(filePath)}`
+    );
+    if (!response.ok) throw new Error('Failed to fetch file content');
+    return response.text();
+  },
+
+  // Content-addressed and immutable, so the browser can cache it indefinitely
+  getBlob: async (contentHash: string): Promise<string> => {
+    const response = await fetch(`${API_URL}/blobs/${contentHash}`);
+    if (!response.ok) throw new Error('Failed to fetch file content');
+    return response.text();
+  },
+
+  // Syntax-highlighted HTML rendered by the backend
+  getHighlightedBlob: async (contentHash: string, language: string): Promise<string> => {
+    const response = await fetch(
+      `${API_URL}/blobs/${contentHash}/highlighted?language=${encodeURIComponent(language)}`
+    );
+    if (!response.ok) throw new Error('Failed to fetch highlighted file');
+    return response.text();
+  },
+
+  getHighlightedFile: async (id: number, filePath: string): Promise<string> => {
+    const response = await fetch(
+      `${API_URL}/repositories/${id}/files/highlighted?path=${encodeURIComponent(filePath)}`
+    );
+    if (!response.ok) throw new Error('Failed to fetch highlighted file');
+    return response.text();
+  },
+
   create: async (repository: Omit<CodeRepository, 'id' | 'createdAt' | 'updatedAt'>): Promise<CodeRepository> => {
     const response = await fetch(`${API_URL}/repositories`, {
       method: 'POST',
@@ -61,6 +101,27 @@ export const repositoryApi = {
     return response.json();
   },
 
+  saveFile: async (id: number, file: CodeFile): Promise<CodeFile> => {
+    const response = await fetch(
+      `${API_URL}/repositories/${id}/files?path=${encodeURIComponent(file.filePath)}`,
+      {
+        method: 'PUT',
+        headers: { 'Content-Type': 'application/json' },
+        body: JSON.stringify(file),
+      }
+    );
+    if (!response.ok) throw new Error('Failed to save file');
+    return response.json();
+  },
+
+  deleteFile: async (id: number, filePath: string): Promise<void> => {
+    const response = await fetch(
+      `${API_URL}/repositories/${id}/files?path=${encodeURIComponent(filePath)}`,
+      { method: 'DELETE' }
+    );
+    if (!response.ok) throw new Error('Failed to delete file');
+  },
+
   delete: async (id: number): Promise<void> => {
     const response = await fetch(`${API_URL}/repositories/${id}`, {
       method: 'DELETE',